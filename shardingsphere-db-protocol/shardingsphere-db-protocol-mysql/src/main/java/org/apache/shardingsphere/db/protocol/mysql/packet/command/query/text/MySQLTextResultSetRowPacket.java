@@ -40,6 +40,12 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE = {1};
+    
+    private static final byte[] FALSE = {0};
+    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
     private final int sequenceId;
     
     private final Collection<Object> data;
@@ -61,14 +67,14 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    String timestamp = each.toString();
+                    payload.writeStringLenenc(timestamp.substring(0, timestamp.indexOf('.')));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeBytesLenenc((Boolean) each ? TRUE : FALSE);
                 } else if (each instanceof LocalDateTime) {
-                    payload.writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(each.toString(),
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+                    payload.writeStringLenenc(DATE_TIME_FORMATTER.format((LocalDateTime) each));
                 } else {
                     payload.writeStringLenenc(each.toString());
                 }
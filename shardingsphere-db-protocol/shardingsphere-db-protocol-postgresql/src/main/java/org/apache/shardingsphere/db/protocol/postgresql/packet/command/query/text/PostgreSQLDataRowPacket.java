@@ -72,16 +72,13 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
         } else {
-            String columnData = each.toString();
-            payload.writeInt4(columnData.getBytes().length);
-            payload.writeStringEOF(columnData);
+            payload.writeStringWithLength(each.toString());
         }
     }
     
     private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
-            payload.writeInt4(((SQLXML) data).getString().getBytes().length);
-            payload.writeStringEOF(((SQLXML) data).getString());
+            payload.writeStringWithLength(((SQLXML) data).getString());
         } catch (final SQLException ex) {
             throw new RuntimeException(ex.getMessage());
         }
@@ -22,6 +22,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
+import java.nio.charset.Charset;
+
 /**
  * Payload operation for PostgreSQL packet data types.
  *
@@ -154,6 +156,19 @@ public final class PostgreSQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(value.getBytes());
     }
     
+    /**
+     * Write string with 4 bytes length prefix to byte buffers.
+     * 
+     * <p>String is encoded into byte buffers directly, and length prefix is filled after encoded.</p>
+     *
+     * @param value string with length prefix
+     */
+    public void writeStringWithLength(final String value) {
+        int lengthIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        byteBuf.setInt(lengthIndex, byteBuf.writeCharSequence(value, Charset.defaultCharset()));
+    }
+    
     /**
      * Skip reserved from byte buffers.
      * 
@@ -65,8 +65,7 @@ public final class PostgreSQLDataRowPacketTest {
         when(sqlxml.getString()).thenReturn("value");
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(sqlxml));
         actual.write(payload);
-        verify(payload).writeInt4("value".getBytes().length);
-        verify(payload).writeStringEOF("value");
+        verify(payload).writeStringWithLength("value");
     }
     
     @Test
@@ -74,8 +73,7 @@ public final class PostgreSQLDataRowPacketTest {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList("value"));
         assertThat(actual.getData(), is(Collections.singletonList("value")));
         actual.write(payload);
-        verify(payload).writeInt4("value".getBytes().length);
-        verify(payload).writeStringEOF("value");
+        verify(payload).writeStringWithLength("value");
     }
     
     @Test(expected = RuntimeException.class)
@@ -83,7 +81,7 @@ public final class PostgreSQLDataRowPacketTest {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(sqlxml));
         actual.write(payload);
-        verify(payload, times(0)).writeStringEOF(any());
+        verify(payload, times(0)).writeStringWithLength(any());
     }
     
     @Test
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.postgresql.payload;
 
 import io.netty.buffer.ByteBuf;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.ByteBufTestUtils;
 import org.junit.Test;
@@ -54,4 +55,15 @@ public class PostgreSQLPacketPayloadTest {
         assertThat(payload.getByteBuf(), is(byteBuf));
         payload.close();
     }
+    
+    @Test
+    public void assertWriteStringWithLength() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(16, 128);
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf);
+        String expectedString = "value";
+        payload.writeStringWithLength(expectedString);
+        assertThat(payload.readInt4(), is(expectedString.getBytes().length));
+        assertThat(byteBuf.readCharSequence(expectedString.getBytes().length, Charset.defaultCharset()).toString(), is(expectedString));
+        payload.close();
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.support;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Inline expression evaluator with Groovy closure.
+ */
+final class GroovyInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private final Closure<?> closure;
+    
+    GroovyInlineExpressionEvaluator(final InlineExpressionParser inlineExpressionParser) {
+        closure = inlineExpressionParser.evaluateClosure();
+    }
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            result.setProperty(entry.getKey(), entry.getValue());
+        }
+        return result.call().toString();
+    }
+}
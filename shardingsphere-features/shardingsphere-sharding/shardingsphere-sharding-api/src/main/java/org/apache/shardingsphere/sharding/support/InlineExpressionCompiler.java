@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.support;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Compile common inline expressions to evaluators without Groovy, which are composed of variables, integer literals, 
+ * operators of {@code +}, {@code -}, {@code *} and {@code %}, parentheses, {@code hashCode()} and {@code Math.abs()}.
+ * Values are calculated as Groovy does, values of other types are evaluated by fallback evaluator.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class InlineExpressionCompiler {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private static final Collection<String> RESERVED_NAMES = new HashSet<>(Arrays.asList("as", "assert", "break", "case", "catch", "class", "const", "continue", "def", "default", "do", "else", 
+            "enum", "extends", "false", "finally", "for", "goto", "if", "implements", "import", "in", "instanceof", "interface", "new", "null", "package", "return", "super", "switch", 
+            "this", "throw", "throws", "trait", "true", "try", "var", "while", "it", "owner", "delegate", "thisObject", "directive", "resolveStrategy", "metaClass", "properties", 
+            "parameterTypes", "maximumNumberOfParameters"));
+    
+    private static final Collection<String> DEFAULT_IMPORT_PACKAGES = Arrays.asList("java.lang.", "java.util.", "java.io.", "java.net.", "java.math.", "groovy.lang.", "groovy.util.");
+    
+    private final String expression;
+    
+    private int position;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @param fallbackEvaluator evaluator for values which are not supported by compiled inline expression
+     * @return compiled inline expression evaluator, empty if inline expression is not supported
+     */
+    static Optional<InlineExpressionEvaluator> compile(final String inlineExpression, final Supplier<InlineExpressionEvaluator> fallbackEvaluator) {
+        List<String> literals = new ArrayList<>();
+        List<Operand> operands = new ArrayList<>();
+        int start = 0;
+        int placeholderStart = inlineExpression.indexOf("${");
+        while (-1 != placeholderStart) {
+            int placeholderEnd = inlineExpression.indexOf('}', placeholderStart);
+            if (-1 == placeholderEnd || !isPlainText(inlineExpression.substring(start, placeholderStart))) {
+                return Optional.empty();
+            }
+            Operand operand = new InlineExpressionCompiler(inlineExpression.substring(placeholderStart + 2, placeholderEnd)).parse();
+            if (null == operand) {
+                return Optional.empty();
+            }
+            literals.add(inlineExpression.substring(start, placeholderStart));
+            operands.add(operand);
+            start = placeholderEnd + 1;
+            placeholderStart = inlineExpression.indexOf("${", start);
+        }
+        if (!isPlainText(inlineExpression.substring(start))) {
+            return Optional.empty();
+        }
+        literals.add(inlineExpression.substring(start));
+        return Optional.of(new CompiledInlineExpressionEvaluator(literals.toArray(new String[0]), operands.toArray(new Operand[0]), fallbackEvaluator));
+    }
+    
+    private static boolean isPlainText(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            if ('$' == each || '"' == each || '\\' == each || '\n' == each || '\r' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Operand parse() {
+        Operand result = parseExpression();
+        skipWhitespace();
+        return position == expression.length() ? result : null;
+    }
+    
+    private Operand parseExpression() {
+        Operand result = parseTerm();
+        while (null != result) {
+            char operator = peek();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            position++;
+            if (operator == peekImmediately()) {
+                return null;
+            }
+            Operand left = result;
+            Operand right = parseTerm();
+            if (null == right) {
+                return null;
+            }
+            result = '+' == operator ? variables -> plus(left.evaluate(variables), right.evaluate(variables)) : variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+        }
+        return null;
+    }
+    
+    private Operand parseTerm() {
+        Operand result = parseUnary();
+        while (null != result) {
+            char operator = peek();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            position++;
+            Operand left = result;
+            Operand right = parseUnary();
+            if (null == right) {
+                return null;
+            }
+            result = variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+        }
+        return null;
+    }
+    
+    private Operand parseUnary() {
+        if ('-' != peek()) {
+            return parsePostfix();
+        }
+        position++;
+        if ('-' == peekImmediately()) {
+            return null;
+        }
+        Operand operand = parseUnary();
+        return null == operand ? null : variables -> negate(operand.evaluate(variables));
+    }
+    
+    private Operand parsePostfix() {
+        Operand result = parsePrimary();
+        while (null != result && '.' == peek()) {
+            position++;
+            if (!"hashCode".equals(readIdentifier()) || '(' != peek()) {
+                return null;
+            }
+            position++;
+            if (')' != peek()) {
+                return null;
+            }
+            position++;
+            Operand operand = result;
+            result = variables -> hashCode(operand.evaluate(variables));
+        }
+        return result;
+    }
+    
+    private Operand parsePrimary() {
+        char current = peek();
+        if ('(' == current) {
+            position++;
+            return parseClosingParenthesis(parseExpression());
+        }
+        if (current >= '0' && current <= '9') {
+            return parseNumber();
+        }
+        String identifier = readIdentifier();
+        if (null == identifier) {
+            return null;
+        }
+        if ("Math".equals(identifier)) {
+            return parseAbs();
+        }
+        if (RESERVED_NAMES.contains(identifier) || isClassName(identifier) || '(' == peek()) {
+            return null;
+        }
+        return variables -> getVariable(variables, identifier);
+    }
+    
+    private Operand parseAbs() {
+        if ('.' != peek()) {
+            return null;
+        }
+        position++;
+        if (!"abs".equals(readIdentifier()) || '(' != peek()) {
+            return null;
+        }
+        position++;
+        Operand operand = parseClosingParenthesis(parseExpression());
+        return null == operand ? null : variables -> abs(operand.evaluate(variables));
+    }
+    
+    private Operand parseClosingParenthesis(final Operand operand) {
+        if (null == operand || ')' != peek()) {
+            return null;
+        }
+        position++;
+        return operand;
+    }
+    
+    private Operand parseNumber() {
+        int start = position;
+        while (position < expression.length() && expression.charAt(position) >= '0' && expression.charAt(position) <= '9') {
+            position++;
+        }
+        String text = expression.substring(start, position);
+        char next = peekImmediately();
+        if (text.length() > 1 && '0' == text.charAt(0) || isIdentifierPart(next) || '.' == next || text.length() > 18) {
+            return null;
+        }
+        long value = Long.parseLong(text);
+        Object result = value > Integer.MAX_VALUE ? (Object) value : (Object) (int) value;
+        return variables -> result;
+    }
+    
+    private String readIdentifier() {
+        skipWhitespace();
+        int start = position;
+        if (position >= expression.length() || !isIdentifierStart(expression.charAt(position))) {
+            return null;
+        }
+        while (position < expression.length() && isIdentifierPart(expression.charAt(position))) {
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+    
+    private char peek() {
+        skipWhitespace();
+        return peekImmediately();
+    }
+    
+    private char peekImmediately() {
+        return position < expression.length() ? expression.charAt(position) : 0;
+    }
+    
+    private void skipWhitespace() {
+        while (position < expression.length() && ' ' == expression.charAt(position)) {
+            position++;
+        }
+    }
+    
+    private static boolean isIdentifierStart(final char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z' || '_' == character;
+    }
+    
+    private static boolean isIdentifierPart(final char character) {
+        return isIdentifierStart(character) || character >= '0' && character <= '9' || '$' == character;
+    }
+    
+    private static boolean isClassName(final String identifier) {
+        if (!Character.isUpperCase(identifier.charAt(0))) {
+            return false;
+        }
+        for (String each : DEFAULT_IMPORT_PACKAGES) {
+            try {
+                Class.forName(each + identifier, false, InlineExpressionCompiler.class.getClassLoader());
+                return true;
+            } catch (final ClassNotFoundException ignored) {
+            }
+        }
+        return false;
+    }
+    
+    private static Object getVariable(final Map<String, ?> variables, final String name) {
+        Object result = variables.get(name);
+        return result instanceof Map || null != result && result.getClass().isArray() ? UNSUPPORTED : result;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static Object plus(final Object left, final Object right) {
+        if (UNSUPPORTED == left || UNSUPPORTED == right) {
+            return UNSUPPORTED;
+        }
+        if (left instanceof String || isIntegral(left) && right instanceof String) {
+            return String.valueOf(left) + right;
+        }
+        return calculate('+', left, right);
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if (!isIntegral(left) || !isIntegral(right)) {
+            return UNSUPPORTED;
+        }
+        long leftValue = ((Number) left).longValue();
+        long rightValue = ((Number) right).longValue();
+        long result;
+        switch (operator) {
+            case '+':
+                result = leftValue + rightValue;
+                break;
+            case '-':
+                result = leftValue - rightValue;
+                break;
+            case '*':
+                result = leftValue * rightValue;
+                break;
+            default:
+                if (0 == rightValue) {
+                    return UNSUPPORTED;
+                }
+                result = leftValue % rightValue;
+                break;
+        }
+        return left instanceof Long || right instanceof Long ? (Object) result : (Object) (int) result;
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        return value instanceof Long ? (Object) (-(Long) value) : UNSUPPORTED;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Long) {
+            return Math.abs((Long) value);
+        }
+        return isIntegral(value) ? (Object) Math.abs(((Number) value).intValue()) : UNSUPPORTED;
+    }
+    
+    private static Object hashCode(final Object value) {
+        return null == value || UNSUPPORTED == value ? UNSUPPORTED : value.hashCode();
+    }
+    
+    private interface Operand {
+        
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CompiledInlineExpressionEvaluator implements InlineExpressionEvaluator {
+        
+        private final String[] literals;
+        
+        private final Operand[] operands;
+        
+        private final Supplier<InlineExpressionEvaluator> fallbackEvaluator;
+        
+        @Override
+        public String evaluate(final Map<String, ?> variables) {
+            StringBuilder result = new StringBuilder(literals[0]);
+            for (int i = 0; i < operands.length; i++) {
+                Object value = operands[i].evaluate(variables);
+                if (UNSUPPORTED == value) {
+                    return fallbackEvaluator.get().evaluate(variables);
+                }
+                result.append(value).append(literals[i + 1]);
+            }
+            return result.toString();
+        }
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.support;
 
 import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -86,6 +88,18 @@ public final class InlineExpressionParser {
         return (Closure) evaluate("{it -> \"" + inlineExpression + "\"}");
     }
     
+    /**
+     * Compile inline expression to evaluator.
+     * 
+     * <p>Common inline expressions are compiled to be evaluated without Groovy, others are evaluated with Groovy closure.</p>
+     *
+     * @return inline expression evaluator
+     */
+    public InlineExpressionEvaluator compile() {
+        Supplier<InlineExpressionEvaluator> groovyEvaluator = Suppliers.memoize(() -> new GroovyInlineExpressionEvaluator(this));
+        return InlineExpressionCompiler.compile(inlineExpression, groovyEvaluator).orElseGet(groovyEvaluator);
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
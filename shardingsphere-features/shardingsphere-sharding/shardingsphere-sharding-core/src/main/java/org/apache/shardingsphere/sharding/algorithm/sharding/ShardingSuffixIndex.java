@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.MapMaker;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sharding suffix index, which finds available target names ending with sharding suffixes.
+ * 
+ * <p>
+ * Target names of all suffixes are matched only once for each collection of available target names, and looked up by suffix afterwards.
+ * Collections of available target names are held by table rules during routing, so they are indexed by identity.
+ * </p>
+ */
+public final class ShardingSuffixIndex {
+    
+    private final Set<String> suffixes;
+    
+    private final Collection<Integer> suffixLengths;
+    
+    private final Map<Collection<String>, IndexedTargetNames> indexedTargetNames = new MapMaker().weakKeys().makeMap();
+    
+    public ShardingSuffixIndex(final int suffixCount) {
+        this(IntStream.range(0, suffixCount).mapToObj(String::valueOf).collect(Collectors.toList()));
+    }
+    
+    public ShardingSuffixIndex(final Collection<String> suffixes) {
+        this.suffixes = new HashSet<>(suffixes);
+        suffixLengths = suffixes.stream().map(String::length).collect(Collectors.toCollection(TreeSet::new));
+    }
+    
+    /**
+     * Find first available target name ending with suffix.
+     * 
+     * @param availableTargetNames available target names
+     * @param suffix sharding suffix
+     * @return found target name, null if absent
+     */
+    public String findTargetName(final Collection<String> availableTargetNames, final long suffix) {
+        List<String> result = getTargetNames(availableTargetNames, String.valueOf(suffix));
+        return result.isEmpty() ? null : result.get(0);
+    }
+    
+    /**
+     * Get available target names ending with suffix.
+     * 
+     * @param availableTargetNames available target names
+     * @param suffix sharding suffix
+     * @return target names ending with suffix
+     */
+    public List<String> getTargetNames(final Collection<String> availableTargetNames, final long suffix) {
+        return getTargetNames(availableTargetNames, String.valueOf(suffix));
+    }
+    
+    /**
+     * Get available target names ending with suffix.
+     * 
+     * @param availableTargetNames available target names
+     * @param suffix sharding suffix
+     * @return target names ending with suffix
+     */
+    public List<String> getTargetNames(final Collection<String> availableTargetNames, final String suffix) {
+        if (!suffixes.contains(suffix)) {
+            return availableTargetNames.stream().filter(each -> each.endsWith(suffix)).collect(Collectors.toList());
+        }
+        IndexedTargetNames result = indexedTargetNames.get(availableTargetNames);
+        if (null == result || result.availableTargetNamesSize != availableTargetNames.size()) {
+            result = index(availableTargetNames);
+            indexedTargetNames.put(availableTargetNames, result);
+        }
+        return result.targetNames.getOrDefault(suffix, Collections.emptyList());
+    }
+    
+    private IndexedTargetNames index(final Collection<String> availableTargetNames) {
+        Map<String, List<String>> result = new HashMap<>(suffixes.size(), 1);
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (suffixLength > each.length()) {
+                    break;
+                }
+                String suffix = each.substring(each.length() - suffixLength);
+                if (suffixes.contains(suffix)) {
+                    result.computeIfAbsent(suffix, key -> new ArrayList<>(1)).add(each);
+                }
+            }
+        }
+        return new IndexedTargetNames(availableTargetNames.size(), result);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IndexedTargetNames {
+        
+        private final int availableTargetNamesSize;
+        
+        private final Map<String, List<String>> targetNames;
+    }
+}
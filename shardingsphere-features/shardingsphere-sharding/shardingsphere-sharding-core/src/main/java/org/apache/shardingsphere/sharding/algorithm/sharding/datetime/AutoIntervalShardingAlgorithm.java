@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -60,11 +62,15 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     private int autoTablesAmount;
     
+    @Getter(AccessLevel.NONE)
+    private ShardingSuffixIndex suffixIndex;
+    
     @Override
     public void init() {
         dateTimeLower = getDateTime(DATE_TIME_LOWER_KEY);
         shardingSeconds = getShardingSeconds();
         autoTablesAmount = (int) (Math.ceil(parseDate(props.getProperty(DATE_TIME_UPPER_KEY)) / shardingSeconds) + 2);
+        suffixIndex = new ShardingSuffixIndex(autoTablesAmount);
     }
     
     private LocalDateTime getDateTime(final String dateTimeKey) {
@@ -84,13 +90,7 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String tableNameSuffix = String.valueOf(doSharding(parseDate(shardingValue.getValue())));
-        for (String each : availableTargetNames) {
-            if (each.endsWith(tableNameSuffix)) {
-                return each;
-            }
-        }
-        return null;
+        return suffixIndex.findTargetName(availableTargetNames, doSharding(parseDate(shardingValue.getValue())));
     }
     
     @Override
@@ -98,15 +98,10 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
-        for (int i = firstPartition; i <= lastPartition; i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(i))) {
-                    result.add(each);
-                    break;
-                }
-                if (result.size() == availableTargetNames.size()) {
-                    return result;
-                }
+        for (int i = firstPartition; i <= lastPartition && result.size() < availableTargetNames.size(); i++) {
+            String targetName = suffixIndex.findTargetName(availableTargetNames, i);
+            if (null != targetName) {
+                result.add(targetName);
             }
         }
         return result;
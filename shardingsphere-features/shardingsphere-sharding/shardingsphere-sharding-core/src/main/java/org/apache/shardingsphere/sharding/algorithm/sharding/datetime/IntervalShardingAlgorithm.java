@@ -23,6 +23,7 @@ import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -31,8 +32,11 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -72,6 +76,12 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private List<LocalDateTime> stepLowers;
+    
+    private List<String> stepSuffixes;
+    
+    private ShardingSuffixIndex suffixIndex;
+    
     @Override
     public void init() {
         String dateTimePattern = getDateTimePattern();
@@ -82,6 +92,9 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern();
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        stepLowers = getStepLowers();
+        stepSuffixes = stepLowers.stream().map(each -> each.format(tableSuffixPattern)).collect(Collectors.toList());
+        suffixIndex = new ShardingSuffixIndex(stepSuffixes);
     }
     
     private String getDateTimePattern() {
@@ -120,6 +133,16 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    private List<LocalDateTime> getStepLowers() {
+        List<LocalDateTime> result = new ArrayList<>();
+        LocalDateTime calculateTime = dateTimeLower;
+        while (!calculateTime.isAfter(dateTimeUpper)) {
+            result.add(calculateTime);
+            calculateTime = calculateTime.plus(stepAmount, stepUnit);
+        }
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
@@ -132,22 +155,34 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
         Set<String> result = new HashSet<>();
-        LocalDateTime calculateTime = dateTimeLower;
-        while (!calculateTime.isAfter(dateTimeUpper)) {
-            if (hasIntersection(Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit)), range)) {
-                result.addAll(getMatchedTables(calculateTime, availableTargetNames));
+        if (stepLowers.isEmpty()) {
+            return result;
+        }
+        Range<LocalDateTime> dateTimeRange = getDateTimeRange(range);
+        int lastStep = getFloorStep(dateTimeRange.upperEndpoint());
+        for (int i = Math.max(0, getFloorStep(dateTimeRange.lowerEndpoint())); i <= lastStep; i++) {
+            LocalDateTime calculateTime = stepLowers.get(i);
+            if (hasIntersection(Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                result.addAll(suffixIndex.getTargetNames(availableTargetNames, stepSuffixes.get(i)));
             }
-            calculateTime = calculateTime.plus(stepAmount, stepUnit);
         }
         return result;
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range) {
+    private Range<LocalDateTime> getDateTimeRange(final Range<Comparable<?>> range) {
         LocalDateTime lower = range.hasLowerBound() ? parseDateTime(range.lowerEndpoint().toString()) : dateTimeLower;
         LocalDateTime upper = range.hasUpperBound() ? parseDateTime(range.upperEndpoint().toString()) : dateTimeUpper;
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private int getFloorStep(final LocalDateTime dateTime) {
+        int result = Collections.binarySearch(stepLowers, dateTime);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<LocalDateTime> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
@@ -155,11 +190,6 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return LocalDateTime.parse(value.substring(0, dateTimePatternLength), dateTimeFormatter);
     }
     
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-    }
-    
     @Override
     public String getType() {
         return "INTERVAL";
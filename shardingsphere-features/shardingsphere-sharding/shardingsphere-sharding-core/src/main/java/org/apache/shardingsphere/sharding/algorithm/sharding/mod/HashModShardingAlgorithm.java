@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -42,9 +44,14 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private int shardingCount;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ShardingSuffixIndex suffixIndex;
+    
     @Override
     public void init() {
         shardingCount = getShardingCount();
+        suffixIndex = new ShardingSuffixIndex(shardingCount);
     }
     
     private int getShardingCount() {
@@ -54,12 +61,7 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        for (String each : availableTargetNames) {
-            if (each.endsWith(String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount))) {
-                return each;
-            }
-        }
-        return null;
+        return suffixIndex.findTargetName(availableTargetNames, hashShardingValue(shardingValue.getValue()) % shardingCount);
     }
     
     @Override
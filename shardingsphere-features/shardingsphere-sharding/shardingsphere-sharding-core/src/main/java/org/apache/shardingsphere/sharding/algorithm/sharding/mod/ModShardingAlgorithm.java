@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -43,9 +45,14 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private int shardingCount;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ShardingSuffixIndex suffixIndex;
+    
     @Override
     public void init() {
         shardingCount = getShardingCount();
+        suffixIndex = new ShardingSuffixIndex(shardingCount);
     }
     
     private int getShardingCount() {
@@ -55,12 +62,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        for (String each : availableTargetNames) {
-            if (each.endsWith(String.valueOf(getLongValue(shardingValue.getValue()) % shardingCount))) {
-                return each;
-            }
-        }
-        return null;
+        return suffixIndex.findTargetName(availableTargetNames, getLongValue(shardingValue.getValue()) % shardingCount);
     }
     
     @Override
@@ -76,11 +78,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         for (long i = getLongValue(shardingValue.getValueRange().lowerEndpoint()); i <= getLongValue(shardingValue.getValueRange().upperEndpoint()); i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(i % shardingCount))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(suffixIndex.getTargetNames(availableTargetNames, i % shardingCount));
         }
         return result;
     }
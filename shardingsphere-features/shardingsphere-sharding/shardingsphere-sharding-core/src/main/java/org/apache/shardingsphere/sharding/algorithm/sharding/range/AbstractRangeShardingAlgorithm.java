@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
+import com.google.common.collect.ImmutableRangeMap;
 import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -38,6 +41,10 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private volatile Map<Integer, Range<Long>> partitionRange;
     
+    private volatile RangeMap<Long, Integer> partitionIndex;
+    
+    private volatile ShardingSuffixIndex suffixIndex;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -45,13 +52,25 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     @Override
     public final void init() {
         partitionRange = calculatePartitionRange(props);
+        partitionIndex = createPartitionIndex(partitionRange);
+        suffixIndex = new ShardingSuffixIndex(partitionRange.size());
     }
     
     protected abstract Map<Integer, Range<Long>> calculatePartitionRange(Properties props);
     
+    private RangeMap<Long, Integer> createPartitionIndex(final Map<Integer, Range<Long>> partitionRange) {
+        ImmutableRangeMap.Builder<Long, Integer> result = ImmutableRangeMap.builder();
+        for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                result.put(entry.getValue(), entry.getKey());
+            }
+        }
+        return result.build();
+    }
+    
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(String.valueOf(getPartition(shardingValue.getValue())))).findFirst().orElse(null);
+        return suffixIndex.findTargetName(availableTargetNames, getPartition(shardingValue.getValue()));
     }
     
     @Override
@@ -60,11 +79,7 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(partition))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(suffixIndex.getTargetNames(availableTargetNames, partition));
         }
         return result;
     }
@@ -78,12 +93,11 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
     
     private Integer getPartition(final Long value) {
-        for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(value)) {
-                return entry.getKey();
-            }
+        Integer result = partitionIndex.get(value);
+        if (null == result) {
+            throw new UnsupportedOperationException("");
         }
-        throw new UnsupportedOperationException("");
+        return result;
     }
     
     @Override
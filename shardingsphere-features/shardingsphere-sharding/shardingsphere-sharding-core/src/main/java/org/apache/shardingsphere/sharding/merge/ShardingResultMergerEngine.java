@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.impl.TransparentResultMerger;
@@ -38,8 +40,17 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     @Override
     public ResultMerger newInstance(final String schemaName, final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props,
                                     final SQLStatementContext sqlStatementContext) {
+        return newInstance(schemaName, databaseType, shardingRule, props, sqlStatementContext, null);
+    }
+    
+    @Override
+    public ResultMerger newInstance(final String schemaName, final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props,
+                                    final SQLStatementContext sqlStatementContext, final ExecutorEngine executorEngine) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(databaseType);
+            return new ShardingDQLResultMerger(databaseType, props.<Integer>getValue(ConfigurationPropertyKey.MEMORY_MERGE_MAX_GROUP_SIZE),
+                    props.<String>getValue(ConfigurationPropertyKey.MEMORY_MERGE_SPILL_DIRECTORY),
+                    props.<Boolean>getValue(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED), props.<Boolean>getValue(ConfigurationPropertyKey.GROUP_BY_STREAM_MERGE_ENABLED),
+                    props.<Integer>getValue(ConfigurationPropertyKey.PARALLEL_MERGE_MIN_QUERY_RESULTS), executorEngine);
         } 
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return new ShardingDALResultMerger(schemaName, shardingRule);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
@@ -24,12 +25,17 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamSortMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
@@ -39,7 +45,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -52,6 +61,22 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final int memoryMergeMaxGroupSize;
+    
+    private final String memoryMergeSpillDirectory;
+    
+    private final boolean approximateDistinctCountEnabled;
+    
+    private final boolean groupByStreamMergeEnabled;
+    
+    private final int parallelMergeMinQueryResults;
+    
+    private final ExecutorEngine executorEngine;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, 0, "", false, false, 0, null);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
         if (1 == queryResults.size()) {
@@ -64,6 +89,25 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
+    @Override
+    public MergedResult merge(final ExecutionGroupResultIterator<QueryResult> groupResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (!isIteratorStreamMerge(selectStatementContext)) {
+            return merge(groupResults.nextAll(), sqlStatementContext, schema);
+        }
+        List<QueryResult> firstQueryResults = new LinkedList<>();
+        while (firstQueryResults.isEmpty() && groupResults.hasNext()) {
+            firstQueryResults.addAll(groupResults.next());
+        }
+        selectStatementContext.setIndexes(getColumnLabelIndexMap(firstQueryResults.get(0)));
+        return new IteratorStreamMergedResult(firstQueryResults, groupResults);
+    }
+    
+    private boolean isIteratorStreamMerge(final SelectStatementContext selectStatementContext) {
+        return !isNeedProcessGroupBy(selectStatementContext) && !isNeedProcessDistinctRow(selectStatementContext)
+                && !isNeedProcessOrderBy(selectStatementContext) && !selectStatementContext.getPaginationContext().isHasPagination();
+    }
+    
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
         Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (int i = queryResult.getMetaData().getColumnCount(); i > 0; i--) {
@@ -75,11 +119,11 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         if (isNeedProcessGroupBy(selectStatementContext)) {
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
+            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema, groupByStreamMergeEnabled && selectStatementContext.isDifferentGroupByAndOrderByItems());
         }
         if (isNeedProcessDistinctRow(selectStatementContext)) {
             setGroupByForDistinctRow(selectStatementContext);
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
+            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema, false);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
             return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
@@ -104,10 +148,22 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     }
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
-                                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema, final boolean sortedByGroupByItems) throws SQLException {
+        boolean approximateDistinctCount = approximateDistinctCountEnabled || HintManager.isApproximateDistinctCount();
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, approximateDistinctCount);
+        }
+        if (sortedByGroupByItems) {
+            return new GroupByStreamSortMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, approximateDistinctCount);
+        }
+        int maxGroupSize = HintManager.getMemoryMergeMaxGroupSize().orElse(memoryMergeMaxGroupSize);
+        return maxGroupSize > 0 && !selectStatementContext.getGroupByContext().getItems().isEmpty() && GroupBySpillMergedResult.isSpillable(queryResults.get(0))
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, maxGroupSize, approximateDistinctCount, getSpillDirectory())
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema, approximateDistinctCount, parallelMergeMinQueryResults, executorEngine);
+    }
+    
+    private Path getSpillDirectory() {
+        return Strings.isNullOrEmpty(memoryMergeSpillDirectory) ? Paths.get(System.getProperty("java.io.tmpdir")) : Paths.get(memoryMergeSpillDirectory);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Aggregator for group by, which keeps groups and aggregation units in memory.
+ */
+final class GroupByAggregator {
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final Map<GroupByValue, GroupByAggregation> aggregations = new HashMap<>(1024);
+    
+    private final boolean approximateDistinctCount;
+    
+    private final List<Comparable<?>> values = new ArrayList<>(2);
+    
+    private boolean[] integralValues;
+    
+    GroupByAggregator(final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount) {
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        this.approximateDistinctCount = approximateDistinctCount;
+    }
+    
+    GroupByAggregator(final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        this(selectStatementContext, approximateDistinctCount);
+        initIntegralValues(queryResultMetaData);
+    }
+    
+    /**
+     * Judge whether group is aggregated.
+     *
+     * @param groupByValue group by value
+     * @return group is aggregated or not
+     */
+    boolean contains(final GroupByValue groupByValue) {
+        return aggregations.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get size of groups.
+     *
+     * @return size of groups
+     */
+    int size() {
+        return aggregations.size();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        GroupByAggregation aggregation = aggregations.get(groupByValue);
+        if (null == aggregation) {
+            aggregation = new GroupByAggregation(new MemoryQueryResultRow(queryResult), createAggregationUnits(queryResult));
+            aggregations.put(groupByValue, aggregation);
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            values.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationProjections[i]));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, each));
+                }
+            }
+            aggregation.getUnits()[i].merge(values);
+        }
+    }
+    
+    /**
+     * Combine groups of another aggregator, which aggregates other query results of the same query.
+     * 
+     * @param aggregator aggregator to be combined
+     */
+    void combine(final GroupByAggregator aggregator) {
+        for (Entry<GroupByValue, GroupByAggregation> entry : aggregator.aggregations.entrySet()) {
+            GroupByAggregation aggregation = aggregations.putIfAbsent(entry.getKey(), entry.getValue());
+            if (null == aggregation) {
+                continue;
+            }
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                aggregation.getUnits()[i].combine(entry.getValue().getUnits()[i]);
+            }
+        }
+    }
+    
+    private void initIntegralValues(final QueryResultMetaData queryResultMetaData) throws SQLException {
+        integralValues = new boolean[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            integralValues[i] = AggregationUnitFactory.isIntegralValue(aggregationProjections[i], queryResultMetaData);
+        }
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final QueryResult queryResult) throws SQLException {
+        if (null == integralValues) {
+            initIntegralValues(queryResult.getMetaData());
+        }
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(
+                    aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection, integralValues[i], approximateDistinctCount);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregated rows.
+     *
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> getRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(aggregations.size());
+        for (GroupByAggregation each : aggregations.values()) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.getRow().setCell(aggregationProjections[i].getIndex(), each.getUnits()[i].getResult());
+            }
+            result.add(each.getRow());
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByAggregation {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] units;
+    }
+}
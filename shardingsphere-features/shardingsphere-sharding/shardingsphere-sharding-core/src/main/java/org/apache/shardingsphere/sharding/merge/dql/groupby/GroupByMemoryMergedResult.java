@@ -17,21 +17,22 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -39,85 +40,125 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * Query results can be aggregated in partitions with the executor of kernel, which is shared with SQL execution.
+ * At most half of a bounded executor is taken by partitions, so that SQLs of other queries can still be executed while merging.
+ * </p>
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
+    private static final int MERGE_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    
     public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         super(null, schema, selectStatementContext, queryResults);
     }
     
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                                     final ShardingSphereSchema schema, final boolean approximateDistinctCount) throws SQLException {
+        this(queryResults, selectStatementContext, schema, approximateDistinctCount, 0, null);
+    }
+    
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final boolean approximateDistinctCount, final int parallelMergeMinQueryResults, final ExecutorEngine executorEngine) throws SQLException {
+        super(merge(queryResults, selectStatementContext, schema, approximateDistinctCount, parallelMergeMinQueryResults, executorEngine));
+    }
+    
     @Override
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema, 
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
-            }
-        }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+        return merge(queryResults, (SelectStatementContext) sqlStatementContext, schema, false, 0, null);
+    }
+    
+    private static List<MemoryQueryResultRow> merge(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                                    final boolean approximateDistinctCount, final int parallelMergeMinQueryResults, final ExecutorEngine executorEngine) throws SQLException {
+        GroupByAggregator aggregator = null != executorEngine && isParallelMerge(queryResults, selectStatementContext, parallelMergeMinQueryResults)
+                ? aggregateInParallel(queryResults, selectStatementContext, approximateDistinctCount, executorEngine.getExecutorServiceManager())
+                : aggregate(queryResults, selectStatementContext, new GroupByAggregator(selectStatementContext, approximateDistinctCount), new AtomicBoolean());
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return getMemoryResultSetRows(selectStatementContext, aggregator.getRows(), valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private static boolean isParallelMerge(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final int parallelMergeMinQueryResults) {
+        if (parallelMergeMinQueryResults <= 0 || queryResults.size() < parallelMergeMinQueryResults) {
+            return false;
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(), 
-                input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            if (each instanceof AggregationDistinctProjection && AggregationType.AVG == each.getType()) {
+                return false;
+            }
         }
+        return true;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
+    private static GroupByAggregator aggregate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                               final GroupByAggregator aggregator, final AtomicBoolean stopped) throws SQLException {
+        for (QueryResult each : queryResults) {
+            while (!stopped.get() && each.next()) {
+                aggregator.aggregate(each, new GroupByValue(each, selectStatementContext.getGroupByContext().getItems()));
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
         }
+        return aggregator;
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
+    private static GroupByAggregator aggregateInParallel(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                         final boolean approximateDistinctCount, final ExecutorServiceManager executorServiceManager) throws SQLException {
+        QueryResultMetaData queryResultMetaData = queryResults.get(0).getMetaData();
+        int partitionCount = getPartitionCount(executorServiceManager.getExecutorSize());
+        int partitionSize = (queryResults.size() + partitionCount - 1) / partitionCount;
+        AtomicBoolean stopped = new AtomicBoolean();
+        Collection<PartitionAggregation> partitionAggregations = new LinkedList<>();
+        try {
+            for (int i = partitionSize; i < queryResults.size(); i += partitionSize) {
+                GroupByAggregator partitionAggregator = new GroupByAggregator(selectStatementContext, approximateDistinctCount, queryResultMetaData);
+                partitionAggregations.add(new PartitionAggregation(
+                        queryResults.subList(i, Math.min(i + partitionSize, queryResults.size())), selectStatementContext, partitionAggregator, stopped, executorServiceManager.getExecutorService()));
+            }
+            GroupByAggregator result = new GroupByAggregator(selectStatementContext, approximateDistinctCount, queryResultMetaData);
+            aggregate(queryResults.subList(0, partitionSize), selectStatementContext, result, stopped);
+            for (PartitionAggregation each : partitionAggregations) {
+                result.combine(getPartitionAggregator(each.getFuture()));
+            }
+            return result;
+        } finally {
+            stopped.set(true);
+            partitionAggregations.forEach(PartitionAggregation::cancelAndAwait);
+        }
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext, 
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private static int getPartitionCount(final int executorSize) {
+        return 1 + (0 == executorSize ? MERGE_PARALLELISM : executorSize / 2);
+    }
+    
+    private static GroupByAggregator getPartitionAggregator(final Future<GroupByAggregator> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
             }
+            throw new ShardingSphereException(ex);
         }
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>();
         result.add(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
@@ -126,7 +167,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, 
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, 
                                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
@@ -140,18 +181,17 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return false;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+    private static List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
+                                                                     final List<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        rows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return rows;
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
         for (int i = 0; i < projections.size(); i++) {
@@ -161,4 +201,40 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
         return result;
     }
+    
+    private static final class PartitionAggregation {
+        
+        private final AtomicBoolean started = new AtomicBoolean();
+        
+        private final CountDownLatch finished = new CountDownLatch(1);
+        
+        @Getter
+        private final Future<GroupByAggregator> future;
+        
+        PartitionAggregation(final List<QueryResult> partition, final SelectStatementContext selectStatementContext,
+                             final GroupByAggregator aggregator, final AtomicBoolean stopped, final ExecutorService executorService) {
+            future = executorService.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return aggregator;
+                }
+                try {
+                    return aggregate(partition, selectStatementContext, aggregator, stopped);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        
+        void cancelAndAwait() {
+            if (started.compareAndSet(false, true)) {
+                future.cancel(false);
+                return;
+            }
+            try {
+                finished.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Temporary file of rows spilled by group by merged result.
+ * 
+ * <p>Rows are written once and read once, the file is deleted after it is read through or closed.
+ * The file is only accessible by its owner where file system supports POSIX permissions.</p>
+ */
+final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final int RESET_INTERVAL_ROWS = 1024;
+    
+    private final Path file;
+    
+    private ObjectOutputStream output;
+    
+    private ObjectInputStream input;
+    
+    private int writtenRows;
+    
+    private int readRows;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    GroupBySpillFile(final Path directory) throws SQLException {
+        try {
+            file = Files.createTempFile(directory, "shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new SQLException(String.format("Can not create temporary file in `%s` to spill group by rows.", directory), ex);
+        }
+        try {
+            output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(String.format("Can not spill group by rows to `%s`.", file), ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws SQLException SQL exception
+     */
+    void write(final Object[] row) throws SQLException {
+        try {
+            output.writeObject(row);
+            writtenRows++;
+            if (0 == writtenRows % RESET_INTERVAL_ROWS) {
+                output.reset();
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(String.format("Can not spill group by rows to `%s`.", file), ex);
+        }
+    }
+    
+    /**
+     * Finish writing, the file is not kept open until it is read.
+     *
+     * @throws SQLException SQL exception
+     */
+    void finishWrite() throws SQLException {
+        if (null == output) {
+            return;
+        }
+        try {
+            output.close();
+            output = null;
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(String.format("Can not spill group by rows to `%s`.", file), ex);
+        }
+    }
+    
+    /**
+     * Move to next row, the file is deleted when no more rows.
+     *
+     * @return has next row or not
+     * @throws SQLException SQL exception
+     */
+    boolean next() throws SQLException {
+        if (readRows == writtenRows) {
+            currentRow = null;
+            close();
+            return false;
+        }
+        try {
+            if (null == input) {
+                openInput();
+            }
+            currentRow = new MemoryQueryResultRow((Object[]) input.readObject());
+            readRows++;
+            return true;
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new SQLException(String.format("Can not read spilled group by rows from `%s`.", file), ex);
+        }
+    }
+    
+    private void openInput() throws IOException {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+        input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        // Unlink opened file where file system supports it, so that no file is left if the result is not read through.
+        delete();
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+            }
+            if (null != input) {
+                input.close();
+            }
+        } catch (final IOException ignored) {
+        }
+        output = null;
+        input = null;
+        delete();
+    }
+    
+    private void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+            file.toFile().deleteOnExit();
+        }
+    }
+}
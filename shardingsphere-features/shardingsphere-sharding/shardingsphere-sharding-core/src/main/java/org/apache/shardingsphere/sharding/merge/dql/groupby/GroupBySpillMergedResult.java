@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Spill merged result for group by.
+ * 
+ * <p>
+ * Groups are aggregated in memory until max group size is reached. Rows of other groups are partitioned by hash of group by value and spilled to temporary files.
+ * Each spilled partition is aggregated recursively, and every aggregated part is written as a sorted run. Sorted runs are merged back when the result is iterated.
+ * If there are more sorted runs than max merge way, they are merged into fewer runs in passes first, to limit the count of files opened at the same time.
+ * Opened sorted runs are released when the result is read through or closed.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_SIZE = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = Integer.SIZE / PARTITION_BITS;
+    
+    private static final int MAX_MERGE_WAY = 64;
+    
+    private static final Set<Integer> UNSPILLABLE_COLUMN_TYPES = new HashSet<>(Arrays.asList(
+            Types.BLOB, Types.CLOB, Types.NCLOB, Types.SQLXML, Types.ARRAY, Types.STRUCT, Types.REF, Types.REF_CURSOR, Types.DATALINK, Types.ROWID, Types.DISTINCT, Types.JAVA_OBJECT, Types.OTHER));
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Path spillDirectory;
+    
+    private final int maxGroupSize;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private final Queue<GroupBySpillFile> sortedRuns;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                                    final ShardingSphereSchema schema, final int maxGroupSize, final boolean approximateDistinctCount, final Path spillDirectory) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.spillDirectory = spillDirectory;
+        this.maxGroupSize = maxGroupSize;
+        this.approximateDistinctCount = approximateDistinctCount;
+        metaData = queryResults.get(0).getMetaData();
+        comparator = new GroupByRowComparator(selectStatementContext, GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        Queue<GroupBySpillFile> runs = new LinkedList<>();
+        try {
+            memoryRows = merge(queryResults, 0, runs).iterator();
+            while (runs.size() > MAX_MERGE_WAY) {
+                runs.offer(mergeSortedRuns(pollSortedRuns(runs)));
+            }
+            sortedRuns = openSortedRuns(runs);
+        } catch (final SQLException ex) {
+            runs.forEach(GroupBySpillFile::close);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Judge whether rows of query result can be spilled.
+     * 
+     * <p>Values of large object, structured and vendor specific types are not guaranteed to be serializable, so group by results with them should be merged in memory.</p>
+     *
+     * @param queryResult query result
+     * @return can be spilled or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSpillable(final QueryResult queryResult) throws SQLException {
+        QueryResultMetaData metaData = queryResult.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (UNSPILLABLE_COLUMN_TYPES.contains(metaData.getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<GroupBySpillFile> pollSortedRuns(final Queue<GroupBySpillFile> runs) {
+        Collection<GroupBySpillFile> result = new LinkedList<>();
+        while (result.size() < MAX_MERGE_WAY && !runs.isEmpty()) {
+            result.add(runs.poll());
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile mergeSortedRuns(final Collection<GroupBySpillFile> runs) throws SQLException {
+        GroupBySpillFile result = null;
+        try {
+            result = new GroupBySpillFile(spillDirectory);
+            Queue<GroupBySpillFile> openedRuns = openSortedRuns(runs);
+            while (!openedRuns.isEmpty()) {
+                GroupBySpillFile run = openedRuns.poll();
+                result.write(toRow(run.getCurrentRow()));
+                if (run.next()) {
+                    openedRuns.offer(run);
+                }
+            }
+            result.finishWrite();
+            return result;
+        } catch (final SQLException ex) {
+            runs.forEach(GroupBySpillFile::close);
+            if (null != result) {
+                result.close();
+            }
+            throw ex;
+        }
+    }
+    
+    private Queue<GroupBySpillFile> openSortedRuns(final Collection<GroupBySpillFile> runs) throws SQLException {
+        Queue<GroupBySpillFile> result = new PriorityQueue<>(Math.max(runs.size(), 1), (o1, o2) -> comparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (GroupBySpillFile each : runs) {
+            if (each.next()) {
+                result.offer(each);
+            }
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> merge(final Collection<QueryResult> queryResults, final int depth, final Collection<GroupBySpillFile> runs) throws SQLException {
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_SIZE];
+        List<MemoryQueryResultRow> result;
+        try {
+            result = aggregate(queryResults, depth, partitions);
+        } catch (final SQLException ex) {
+            closePartitions(partitions);
+            throw ex;
+        }
+        if (Arrays.stream(partitions).allMatch(Objects::isNull)) {
+            return result;
+        }
+        try {
+            finishWritePartitions(partitions);
+            runs.add(createSortedRun(result));
+            result.clear();
+            mergePartitions(partitions, depth, runs);
+        } catch (final SQLException ex) {
+            closePartitions(partitions);
+            throw ex;
+        }
+        return Collections.emptyList();
+    }
+    
+    private void mergePartitions(final GroupBySpillFile[] partitions, final int depth, final Collection<GroupBySpillFile> runs) throws SQLException {
+        for (int i = 0; i < partitions.length; i++) {
+            if (null == partitions[i]) {
+                continue;
+            }
+            GroupBySpillFile partition = partitions[i];
+            partitions[i] = null;
+            try {
+                List<MemoryQueryResultRow> rows = merge(Collections.singletonList(new GroupBySpillQueryResult(partition, metaData)), depth + 1, runs);
+                if (!rows.isEmpty()) {
+                    runs.add(createSortedRun(rows));
+                }
+            } finally {
+                partition.close();
+            }
+        }
+    }
+    
+    private List<MemoryQueryResultRow> aggregate(final Collection<QueryResult> queryResults, final int depth, final GroupBySpillFile[] partitions) throws SQLException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, approximateDistinctCount);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (aggregator.size() < maxGroupSize || depth >= MAX_SPILL_DEPTH || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                } else {
+                    spill(each, groupByValue, depth, partitions);
+                }
+            }
+        }
+        List<MemoryQueryResultRow> result = aggregator.getRows();
+        result.sort(comparator);
+        return result;
+    }
+    
+    private void spill(final QueryResult queryResult, final GroupByValue groupByValue, final int depth, final GroupBySpillFile[] partitions) throws SQLException {
+        int partitionIndex = getPartitionIndex(groupByValue, depth);
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = new GroupBySpillFile(spillDirectory);
+        }
+        Object[] row = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+            if (null != row[i] && !(row[i] instanceof Serializable)) {
+                throw new SQLFeatureNotSupportedException(String.format("Spill value of `%s` in column `%s`", row[i].getClass().getName(), metaData.getColumnLabel(i + 1)));
+            }
+        }
+        partitions[partitionIndex].write(row);
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash >>> (depth * PARTITION_BITS)) & (PARTITION_SIZE - 1);
+    }
+    
+    private void finishWritePartitions(final GroupBySpillFile[] partitions) throws SQLException {
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.finishWrite();
+            }
+        }
+    }
+    
+    private GroupBySpillFile createSortedRun(final List<MemoryQueryResultRow> rows) throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile(spillDirectory);
+        for (MemoryQueryResultRow each : rows) {
+            result.write(toRow(each));
+        }
+        result.finishWrite();
+        return result;
+    }
+    
+    private Object[] toRow(final MemoryQueryResultRow memoryQueryResultRow) throws SQLException {
+        Object[] result = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = memoryQueryResultRow.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    private void closePartitions(final GroupBySpillFile[] partitions) {
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (memoryRows.hasNext()) {
+            currentRow = memoryRows.next();
+            return true;
+        }
+        GroupBySpillFile sortedRun = sortedRuns.poll();
+        if (null == sortedRun) {
+            return false;
+        }
+        currentRow = sortedRun.getCurrentRow();
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        while (!sortedRuns.isEmpty()) {
+            sortedRuns.poll().close();
+        }
+    }
+}
@@ -18,11 +18,11 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -31,10 +31,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -45,17 +45,47 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private boolean[] integralValues;
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(queryResults, selectStatementContext, schema);
+        this(labelAndIndexMap, queryResults, selectStatementContext, schema, false);
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
+                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final boolean approximateDistinctCount) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatementContext, schema, approximateDistinctCount, selectStatementContext.getOrderByContext().getItems());
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final boolean approximateDistinctCount, final Collection<OrderByItem> orderByItems) throws SQLException {
+        super(queryResults, selectStatementContext, schema, orderByItems);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        this.approximateDistinctCount = approximateDistinctCount;
         currentGroupByValues = getOrderByValuesQueue().isEmpty()
                 ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
     
+    @Override
+    public boolean skip(final long count) throws SQLException {
+        for (long i = 0; i < count; i++) {
+            if (!next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
@@ -74,10 +104,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        AggregationUnit[] aggregationUnits = createAggregationUnits();
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+            aggregate(aggregationUnits);
             if (!cachedRow) {
                 cacheCurrentRow();
                 cachedRow = true;
@@ -87,21 +116,36 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        setAggregationValueToCurrentRow(aggregationUnits);
+        return result;
+    }
+    
+    private AggregationUnit[] createAggregationUnits() throws SQLException {
+        if (null == integralValues) {
+            integralValues = new boolean[aggregationProjections.length];
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                integralValues[i] = AggregationUnitFactory.isIntegralValue(aggregationProjections[i], getCurrentQueryResult().getMetaData());
+            }
+        }
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(
+                    aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection, integralValues[i], approximateDistinctCount);
+        }
         return result;
     }
     
-    private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+    private void aggregate(final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(aggregationProjections[i]));
             } else {
-                for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            aggregationUnits[i].merge(aggregationValues);
         }
     }
     
@@ -117,9 +161,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToCurrentRow(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            currentRow.set(aggregationProjections[i].getIndex() - 1, aggregationUnits[i].getResult());
         }
     }
     
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merged result for group by, which merges query results sorted by group by items in stream, and then sorts the merged groups by order by items in memory.
+ * 
+ * <p>
+ * Only merged groups are kept in memory, instead of all rows of query results.
+ * </p>
+ */
+public final class GroupByStreamSortMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    public GroupByStreamSortMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults);
+    }
+    
+    public GroupByStreamSortMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
+                                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final boolean approximateDistinctCount) throws SQLException {
+        super(merge(labelAndIndexMap, queryResults, selectStatementContext, schema, approximateDistinctCount));
+    }
+    
+    @Override
+    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema, 
+                                              final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        return merge(getLabelAndIndexMap(queryResults.get(0)), queryResults, (SelectStatementContext) sqlStatementContext, schema, false);
+    }
+    
+    private static Map<String, Integer> getLabelAndIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getMetaData().getColumnCount(); i > 0; i--) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getMetaData().getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    private static List<MemoryQueryResultRow> merge(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                    final ShardingSphereSchema schema, final boolean approximateDistinctCount) throws SQLException {
+        MergedResult groupByMergedResult = new GroupByStreamMergedResult(
+                labelAndIndexMap, queryResults, selectStatementContext, schema, approximateDistinctCount, selectStatementContext.getGroupByContext().getItems());
+        int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        List<MemoryQueryResultRow> result = new ArrayList<>();
+        while (groupByMergedResult.next()) {
+            Object[] data = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                data[i] = groupByMergedResult.getValue(i + 1, Object.class);
+            }
+            result.add(new MemoryQueryResultRow(data));
+        }
+        List<Boolean> valueCaseSensitive = GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return result;
+    }
+}
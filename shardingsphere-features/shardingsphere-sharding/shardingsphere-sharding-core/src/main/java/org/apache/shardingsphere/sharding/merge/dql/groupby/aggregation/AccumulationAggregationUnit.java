@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -41,6 +42,11 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        merge(Collections.singletonList(unit.getResult()));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
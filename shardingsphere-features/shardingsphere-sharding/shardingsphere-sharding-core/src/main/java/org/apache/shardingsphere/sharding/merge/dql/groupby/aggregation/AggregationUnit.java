@@ -31,6 +31,13 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Combine partial aggregation of another unit, which is created for the same aggregation.
+     * 
+     * @param unit aggregation unit to be combined
+     */
+    void combine(AggregationUnit unit);
+    
     /**
      * Get aggregation result.
      * 
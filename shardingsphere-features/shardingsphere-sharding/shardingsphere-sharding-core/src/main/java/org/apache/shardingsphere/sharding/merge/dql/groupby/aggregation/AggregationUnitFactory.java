@@ -19,8 +19,13 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  */
@@ -50,4 +55,71 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isIntegralValue whether aggregation values are integral
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isIntegralValue) {
+        return create(type, isDistinct, isIntegralValue, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isIntegralValue whether aggregation values are integral
+     * @param isApproximateDistinctCount whether estimate distinct count approximately
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isIntegralValue, final boolean isApproximateDistinctCount) {
+        if (isApproximateDistinctCount && isDistinct && AggregationType.COUNT == type) {
+            return new ApproximateDistinctCountAggregationUnit();
+        }
+        if (!isIntegralValue || isDistinct) {
+            return create(type, isDistinct);
+        }
+        switch (type) {
+            case SUM:
+            case COUNT:
+                return new LongAccumulationAggregationUnit();
+            case AVG:
+                return new LongAverageAggregationUnit();
+            default:
+                return create(type, false);
+        }
+    }
+    
+    /**
+     * Judge whether values of aggregation projection are integral by column types of query result.
+     * 
+     * @param aggregationProjection aggregation projection
+     * @param metaData meta data of query result
+     * @return values of aggregation projection are integral or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isIntegralValue(final AggregationProjection aggregationProjection, final QueryResultMetaData metaData) throws SQLException {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return AggregationType.COUNT == aggregationProjection.getType() || isIntegralType(metaData.getColumnType(aggregationProjection.getIndex()));
+        }
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            if (!isIntegralValue(each, metaData)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    static boolean isIntegralValue(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isIntegralType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ * 
+ * <p>
+ * Distinct values are kept exactly until there are more than {@code EXACT_THRESHOLD} of them, then they are folded into a HyperLogLog sketch
+ * with {@code 2^PRECISION} registers, so memory is bounded whatever the cardinality is. The standard error of the estimation is about 0.8%.
+ * </p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_SIZE = 1 << PRECISION;
+    
+    private static final int EXACT_THRESHOLD = 256;
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_SIZE);
+    
+    private Collection<Comparable<?>> values = new HashSet<>();
+    
+    private byte[] registers;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null != registers) {
+            add(hash(values.get(0)));
+            return;
+        }
+        this.values.add(values.get(0));
+        if (this.values.size() > EXACT_THRESHOLD) {
+            fold();
+        }
+    }
+    
+    @Override
+    public void combine(final AggregationUnit unit) {
+        ApproximateDistinctCountAggregationUnit approximateUnit = (ApproximateDistinctCountAggregationUnit) unit;
+        if (null == approximateUnit.registers) {
+            for (Comparable<?> each : approximateUnit.values) {
+                merge(Collections.singletonList(each));
+            }
+            return;
+        }
+        if (null == registers) {
+            fold();
+        }
+        for (int i = 0; i < REGISTER_SIZE; i++) {
+            if (approximateUnit.registers[i] > registers[i]) {
+                registers[i] = approximateUnit.registers[i];
+            }
+        }
+    }
+    
+    private void fold() {
+        registers = new byte[REGISTER_SIZE];
+        for (Comparable<?> each : values) {
+            add(hash(each));
+        }
+        values = null;
+    }
+    
+    private void add(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    private static long hash(final Comparable<?> value) {
+        long result;
+        if (AggregationUnitFactory.isIntegralValue(value)) {
+            result = ((Number) value).longValue();
+        } else if (value instanceof String) {
+            result = 0xcbf29ce484222325L;
+            String text = (String) value;
+            for (int i = 0; i < text.length(); i++) {
+                result = (result ^ text.charAt(i)) * 0x100000001b3L;
+            }
+        } else {
+            result = value.hashCode();
+        }
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == registers ? (long) values.size() : estimate();
+    }
+    
+    private long estimate() {
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegisters++;
+            }
+        }
+        double result = ALPHA * REGISTER_SIZE * REGISTER_SIZE / sum;
+        if (result <= 2.5 * REGISTER_SIZE && zeroRegisters > 0) {
+            result = REGISTER_SIZE * Math.log((double) REGISTER_SIZE / zeroRegisters);
+        }
+        return Math.round(result);
+    }
+}
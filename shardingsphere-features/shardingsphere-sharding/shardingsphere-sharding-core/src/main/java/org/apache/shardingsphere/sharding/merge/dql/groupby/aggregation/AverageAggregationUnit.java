@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -48,6 +49,14 @@ public final class AverageAggregationUnit implements AggregationUnit {
         sum = sum.add(new BigDecimal(values.get(1).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        AverageAggregationUnit averageUnit = (AverageAggregationUnit) unit;
+        if (null != averageUnit.count) {
+            merge(Arrays.asList(averageUnit.count, averageUnit.sum));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
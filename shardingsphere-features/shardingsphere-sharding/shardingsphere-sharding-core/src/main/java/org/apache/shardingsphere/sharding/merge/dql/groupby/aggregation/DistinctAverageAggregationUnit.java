@@ -56,6 +56,11 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        throw new UnsupportedOperationException("Cannot combine distinct average aggregation units.");
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
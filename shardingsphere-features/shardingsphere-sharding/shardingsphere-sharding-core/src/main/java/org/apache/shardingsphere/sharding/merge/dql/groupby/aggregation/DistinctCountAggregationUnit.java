@@ -39,6 +39,11 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
         this.values.add(values.get(0));
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        values.addAll(((DistinctCountAggregationUnit) unit).values);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return values.size();
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ * 
+ * <p>Values are accumulated with primitive long, and switch to big decimal once overflow or non integral value merged.</p>
+ */
+@RequiredArgsConstructor
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private long longResult;
+    
+    private BigDecimal result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merged = true;
+        Comparable<?> value = values.get(0);
+        if (null == result && AggregationUnitFactory.isIntegralValue(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = longResult + addend;
+            if (((longResult ^ sum) & (addend ^ sum)) >= 0) {
+                longResult = sum;
+                return;
+            }
+        }
+        if (null == result) {
+            result = BigDecimal.valueOf(longResult);
+        }
+        result = result.add(new BigDecimal(value.toString()));
+    }
+    
+    @Override
+    public void combine(final AggregationUnit unit) {
+        LongAccumulationAggregationUnit accumulationUnit = (LongAccumulationAggregationUnit) unit;
+        if (!accumulationUnit.merged) {
+            return;
+        }
+        merge(Collections.singletonList(null == accumulationUnit.result ? Long.valueOf(accumulationUnit.longResult) : accumulationUnit.result));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        return null == result ? BigDecimal.valueOf(longResult) : result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Average aggregation unit for integral values.
+ * 
+ * <p>Count and sum are accumulated with primitive long, and switch to big decimal once overflow or non integral value merged.</p>
+ */
+@RequiredArgsConstructor
+public final class LongAverageAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private long longCount;
+    
+    private long longSum;
+    
+    private BigDecimal count;
+    
+    private BigDecimal sum;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        merged = true;
+        if (null == count && AggregationUnitFactory.isIntegralValue(values.get(0)) && AggregationUnitFactory.isIntegralValue(values.get(1))) {
+            long countAddend = ((Number) values.get(0)).longValue();
+            long sumAddend = ((Number) values.get(1)).longValue();
+            long newCount = longCount + countAddend;
+            long newSum = longSum + sumAddend;
+            if (((longCount ^ newCount) & (countAddend ^ newCount)) >= 0 && ((longSum ^ newSum) & (sumAddend ^ newSum)) >= 0) {
+                longCount = newCount;
+                longSum = newSum;
+                return;
+            }
+        }
+        if (null == count) {
+            count = BigDecimal.valueOf(longCount);
+            sum = BigDecimal.valueOf(longSum);
+        }
+        count = count.add(new BigDecimal(values.get(0).toString()));
+        sum = sum.add(new BigDecimal(values.get(1).toString()));
+    }
+    
+    @Override
+    public void combine(final AggregationUnit unit) {
+        LongAverageAggregationUnit averageUnit = (LongAverageAggregationUnit) unit;
+        if (!averageUnit.merged) {
+            return;
+        }
+        Comparable<?> unitCount = null == averageUnit.count ? Long.valueOf(averageUnit.longCount) : averageUnit.count;
+        Comparable<?> unitSum = null == averageUnit.sum ? Long.valueOf(averageUnit.longSum) : averageUnit.sum;
+        merge(Arrays.asList(unitCount, unitSum));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        BigDecimal resultCount = null == count ? BigDecimal.valueOf(longCount) : count;
+        if (BigDecimal.ZERO.equals(resultCount)) {
+            return resultCount;
+        }
+        BigDecimal resultSum = null == sum ? BigDecimal.valueOf(longSum) : sum;
+        // TODO use metadata to fetch float number precise for database field
+        return resultSum.divide(resultCount, 4, RoundingMode.HALF_UP);
+    }
+}
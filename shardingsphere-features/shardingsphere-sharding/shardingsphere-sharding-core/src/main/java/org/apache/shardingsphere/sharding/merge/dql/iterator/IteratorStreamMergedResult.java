@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.iterator;
 
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 
@@ -29,10 +30,17 @@ import java.util.List;
  */
 public final class IteratorStreamMergedResult extends StreamMergedResult {
     
-    private final Iterator<QueryResult> queryResults;
+    private Iterator<QueryResult> queryResults;
+    
+    private final ExecutionGroupResultIterator<QueryResult> restGroupResults;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
+        this(queryResults, null);
+    }
+    
+    public IteratorStreamMergedResult(final List<QueryResult> queryResults, final ExecutionGroupResultIterator<QueryResult> restGroupResults) {
         this.queryResults = queryResults.iterator();
+        this.restGroupResults = restGroupResults;
         setCurrentQueryResult(this.queryResults.next());
     }
     
@@ -41,7 +49,7 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         if (getCurrentQueryResult().next()) {
             return true;
         }
-        if (!queryResults.hasNext()) {
+        if (!hasNextQueryResult()) {
             return false;
         }
         setCurrentQueryResult(queryResults.next());
@@ -49,10 +57,17 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         if (hasNext) {
             return true;
         }
-        while (!hasNext && queryResults.hasNext()) {
+        while (!hasNext && hasNextQueryResult()) {
             setCurrentQueryResult(queryResults.next());
             hasNext = getCurrentQueryResult().next();
         }
         return hasNext;
     }
+    
+    private boolean hasNextQueryResult() throws SQLException {
+        while (!queryResults.hasNext() && null != restGroupResults && restGroupResults.hasNext()) {
+            queryResults = restGroupResults.next().iterator();
+        }
+        return queryResults.hasNext();
+    }
 }
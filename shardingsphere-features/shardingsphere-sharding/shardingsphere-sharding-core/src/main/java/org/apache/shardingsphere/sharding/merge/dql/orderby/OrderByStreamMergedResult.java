@@ -26,10 +26,9 @@ import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResu
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
@@ -39,26 +38,32 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValuesQueue;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults, selectStatementContext, schema);
+        this(queryResults, selectStatementContext, schema, selectStatementContext.getOrderByContext().getItems());
+    }
+    
+    protected OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                                        final ShardingSphereSchema schema, final Collection<OrderByItem> orderByItems) throws SQLException {
+        this.orderByItems = orderByItems;
+        orderByValuesQueue = new OrderByValueLoserTree(createOrderByValues(queryResults, selectStatementContext, schema));
+        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    private List<OrderByValue> createOrderByValues(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
             if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
+                result.add(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     @Override
@@ -70,13 +75,35 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
+        if (!orderByValuesQueue.next()) {
+            return false;
+        }
+        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        return true;
+    }
+    
+    /**
+     * Skip rows, which is the same as calling {@code next} for {@code count} times.
+     * 
+     * @param count count of rows to skip
+     * @return all rows are skipped or not
+     * @throws SQLException SQL exception
+     */
+    public boolean skip(final long count) throws SQLException {
+        if (count <= 0) {
+            return true;
         }
         if (orderByValuesQueue.isEmpty()) {
             return false;
         }
+        long rest = count;
+        if (isFirstNext) {
+            isFirstNext = false;
+            rest--;
+        }
+        if (!orderByValuesQueue.skip(rest)) {
+            return false;
+        }
         setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
         return true;
     }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values, which merges sorted query results.
+ * 
+ * <p>
+ * Each internal node keeps the loser of the match between its sub trees, and the overall winner is kept in node 0.
+ * Advancing the winner replays only the matches on its path to the root, which costs {@code log2(k)} comparisons for {@code k} query results.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        tree = new int[this.orderByValues.length];
+        build();
+    }
+    
+    private void build() {
+        int size = orderByValues.length;
+        if (0 == size) {
+            return;
+        }
+        int[] winners = new int[size << 1];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node << 1];
+            int right = winners[(node << 1) + 1];
+            if (isBefore(right, left)) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = 1 == size ? 0 : winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get order by value of the winner.
+     * 
+     * @return order by value of the winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Move the winner to its next row and find the new winner.
+     * 
+     * @return has new winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        return replay(winner);
+    }
+    
+    /**
+     * Move the winner to its next row for several times, which is the same as calling {@code next} for {@code count} times.
+     * 
+     * <p>
+     * While the winner is not after the best loser on its path, it stays the winner, so a run of rows from one query result is skipped
+     * with one comparison per row instead of replaying the whole path. When ordering by sharding key, a run usually covers a whole shard.
+     * </p>
+     * 
+     * @param count count of moves
+     * @return has winner after all moves or not
+     * @throws SQLException SQL exception
+     */
+    public boolean skip(final long count) throws SQLException {
+        long rest = count;
+        while (rest > 0) {
+            int winner = tree[0];
+            int runnerUp = findRunnerUp(winner);
+            do {
+                if (!orderByValues[winner].next()) {
+                    exhausted[winner] = true;
+                }
+                rest--;
+            } while (rest > 0 && !exhausted[winner] && (-1 == runnerUp || !isBefore(runnerUp, winner)));
+            if (!replay(winner)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int findRunnerUp(final int winner) {
+        int result = -1;
+        for (int node = (winner + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (-1 == result || isBefore(tree[node], result)) {
+                result = tree[node];
+            }
+        }
+        return result;
+    }
+    
+    private boolean replay(final int index) {
+        int winner = index;
+        for (int node = (winner + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (isBefore(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return !exhausted[winner];
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex) {
+        if (exhausted[index] || exhausted[otherIndex]) {
+            return !exhausted[index];
+        }
+        return orderByValues[index].compareTo(orderByValues[otherIndex]) < 0;
+    }
+}
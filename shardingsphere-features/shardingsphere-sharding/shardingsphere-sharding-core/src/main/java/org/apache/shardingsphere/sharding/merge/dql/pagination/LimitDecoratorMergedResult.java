@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.pagination;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 
 import java.sql.SQLException;
 
@@ -41,6 +42,9 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     }
     
     private boolean skipOffset() throws SQLException {
+        if (getMergedResult() instanceof OrderByStreamMergedResult) {
+            return !((OrderByStreamMergedResult) getMergedResult()).skip(pagination.getActualOffset());
+        }
         for (int i = 0; i < pagination.getActualOffset(); i++) {
             if (!getMergedResult().next()) {
                 return true;
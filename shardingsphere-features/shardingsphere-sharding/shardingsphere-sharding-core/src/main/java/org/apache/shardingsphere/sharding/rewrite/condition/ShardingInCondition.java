@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.condition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding IN condition, whose values can be split by route units.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingInCondition {
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    private final List<ShardingInValue> values;
+    
+    /**
+     * Get values routed to route unit.
+     * 
+     * <p>All values are returned if none of them is routed to route unit, so that the IN list is never empty.</p>
+     * 
+     * @param routeUnit route unit
+     * @return values routed to route unit
+     */
+    public List<ShardingInValue> getValues(final RouteUnit routeUnit) {
+        List<ShardingInValue> result = values.stream().filter(each -> each.isRoutedTo(routeUnit)).collect(Collectors.toList());
+        return result.isEmpty() ? values : result;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.condition;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding IN condition engine.
+ */
+@RequiredArgsConstructor
+public final class ShardingInConditionEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Create sharding IN conditions.
+     * 
+     * <p>Only IN predicates on the only sharding column of database or table sharding strategy are created,
+     * and select statement should only contain one sharding table without join, subquery or union.</p>
+     *
+     * @param selectStatementContext select statement context
+     * @param parameters SQL parameters
+     * @return sharding IN conditions
+     */
+    public Collection<ShardingInCondition> createShardingInConditions(final SelectStatementContext selectStatementContext, final List<Object> parameters) {
+        Optional<WhereSegment> whereSegment = selectStatementContext.getWhere();
+        if (!whereSegment.isPresent() || !isSingleTableQuery(selectStatementContext)) {
+            return Collections.emptyList();
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRule(selectStatementContext.getTablesContext().getTableNames().iterator().next());
+        Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(whereSegment.get().getExpr());
+        if (!tableRule.isPresent() || 1 != andPredicates.size()) {
+            return Collections.emptyList();
+        }
+        Collection<ShardingInCondition> result = new LinkedList<>();
+        for (ExpressionSegment each : andPredicates.iterator().next().getPredicates()) {
+            if (each instanceof InExpression) {
+                createShardingInCondition(tableRule.get(), (InExpression) each, parameters).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSingleTableQuery(final SelectStatementContext selectStatementContext) {
+        return 1 == selectStatementContext.getTablesContext().getTableNames().size() && !selectStatementContext.isContainsJoinQuery()
+                && !selectStatementContext.isContainsSubquery() && selectStatementContext.getSqlStatement().getUnionSegments().isEmpty();
+    }
+    
+    private Optional<ShardingInCondition> createShardingInCondition(final TableRule tableRule, final InExpression inExpression, final List<Object> parameters) {
+        if (inExpression.isNot() || !(inExpression.getLeft() instanceof ColumnSegment) || !(inExpression.getRight() instanceof ListExpression)) {
+            return Optional.empty();
+        }
+        String columnName = ((ColumnSegment) inExpression.getLeft()).getIdentifier().getValue();
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+        boolean isDatabaseSharding = isShardingByColumn(databaseShardingStrategy, columnName);
+        boolean isTableSharding = isShardingByColumn(tableShardingStrategy, columnName);
+        if (!isDatabaseSharding && !isTableSharding) {
+            return Optional.empty();
+        }
+        ListExpression listExpression = (ListExpression) inExpression.getRight();
+        List<ShardingInValue> values = new ArrayList<>(listExpression.getItems().size());
+        for (ExpressionSegment each : listExpression.getItems()) {
+            Optional<Comparable<?>> value = getValue(each, parameters);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            Collection<ShardingConditionValue> shardingConditionValues = Collections.singletonList(
+                    new ListShardingConditionValue<>(columnName, tableRule.getLogicTable(), Collections.singletonList(value.get())));
+            Collection<String> dataSourceNames = isDatabaseSharding
+                    ? databaseShardingStrategy.doSharding(tableRule.getActualDatasourceNames(), shardingConditionValues, props) : tableRule.getActualDatasourceNames();
+            values.add(new ShardingInValue(each, getDataNodes(tableRule, dataSourceNames, isTableSharding ? tableShardingStrategy : null, shardingConditionValues)));
+        }
+        return Optional.of(new ShardingInCondition(listExpression.getStartIndex(), listExpression.getStopIndex(), values));
+    }
+    
+    private boolean isShardingByColumn(final ShardingStrategy shardingStrategy, final String columnName) {
+        Collection<String> shardingColumns = shardingStrategy.getShardingColumns();
+        return 1 == shardingColumns.size() && shardingColumns.iterator().next().equalsIgnoreCase(columnName);
+    }
+    
+    private Optional<Comparable<?>> getValue(final ExpressionSegment expressionSegment, final List<Object> parameters) {
+        Object result = null;
+        if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
+            result = parameters.get(((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex());
+        } else if (expressionSegment instanceof LiteralExpressionSegment) {
+            result = ((LiteralExpressionSegment) expressionSegment).getLiterals();
+            if (result instanceof String && (((String) result).contains("'") || ((String) result).contains("\\"))) {
+                return Optional.empty();
+            }
+        }
+        return result instanceof Comparable ? Optional.of((Comparable<?>) result) : Optional.empty();
+    }
+    
+    private Collection<DataNode> getDataNodes(final TableRule tableRule, final Collection<String> dataSourceNames,
+                                              final ShardingStrategy tableShardingStrategy, final Collection<ShardingConditionValue> shardingConditionValues) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            Collection<String> actualTableNames = tableRule.getActualTableNames(each);
+            for (String actualTableName : null == tableShardingStrategy ? actualTableNames : tableShardingStrategy.doSharding(actualTableNames, shardingConditionValues, props)) {
+                result.add(new DataNode(each, actualTableName));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.condition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.Collection;
+
+/**
+ * Value of sharding IN condition.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingInValue {
+    
+    private final ExpressionSegment expression;
+    
+    private final Collection<DataNode> dataNodes;
+    
+    /**
+     * Judge whether value is routed to route unit.
+     * 
+     * @param routeUnit route unit
+     * @return value is routed to route unit or not
+     */
+    public boolean isRoutedTo(final RouteUnit routeUnit) {
+        for (DataNode each : dataNodes) {
+            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public String toString() {
+        if (expression instanceof ParameterMarkerExpressionSegment) {
+            return "?";
+        }
+        Object literals = ((LiteralExpressionSegment) expression).getLiterals();
+        return literals instanceof String ? "'" + literals + "'" : literals.toString();
+    }
+}
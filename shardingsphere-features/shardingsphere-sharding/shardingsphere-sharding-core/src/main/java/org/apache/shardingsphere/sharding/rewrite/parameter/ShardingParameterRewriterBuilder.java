@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.sharding.rewrite.parameter;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteContextAware;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingGeneratedKeyInsertValueParameterRewriter;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingInValuesParameterRewriter;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPaginationParameterRewriter;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
@@ -42,6 +45,8 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
     
     private final RouteContext routeContext;
     
+    private final ConfigurationProperties props;
+    
     @Override
     public Collection<ParameterRewriter> getParameterRewriters(final ShardingSphereSchema schema) {
         Collection<ParameterRewriter> result = getParameterRewriters();
@@ -51,10 +56,13 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
         return result;
     }
     
-    private static Collection<ParameterRewriter> getParameterRewriters() {
+    private Collection<ParameterRewriter> getParameterRewriters() {
         Collection<ParameterRewriter> result = new LinkedList<>();
         result.add(new ShardingGeneratedKeyInsertValueParameterRewriter());
         result.add(new ShardingPaginationParameterRewriter());
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SHARDING_IN_VALUES_SPLIT_ENABLED)) {
+            result.add(new ShardingInValuesParameterRewriter(props));
+        }
         return result;
     }
     
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteContextAware;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInCondition;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInConditionEngine;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Sharding IN values parameter rewriter.
+ */
+@RequiredArgsConstructor
+@Setter
+public final class ShardingInValuesParameterRewriter implements ParameterRewriter<SelectStatementContext>, ShardingRuleAware, RouteContextAware {
+    
+    private final ConfigurationProperties props;
+    
+    private ShardingRule shardingRule;
+    
+    private RouteContext routeContext;
+    
+    @Override
+    public boolean isNeedRewrite(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getWhere().isPresent() && !routeContext.isSingleRouting();
+    }
+    
+    @Override
+    public void rewrite(final ParameterBuilder parameterBuilder, final SelectStatementContext selectStatementContext, final List<Object> parameters) {
+        Collection<ShardingInCondition> inConditions = new ShardingInConditionEngine(shardingRule, props).createShardingInConditions(selectStatementContext, parameters);
+        if (inConditions.isEmpty()) {
+            return;
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<Integer> removedParameterIndexes = new LinkedList<>();
+            for (ShardingInCondition inCondition : inConditions) {
+                removedParameterIndexes.addAll(getRemovedParameterIndexes(inCondition, each));
+            }
+            if (!removedParameterIndexes.isEmpty()) {
+                ((StandardParameterBuilder) parameterBuilder).addRemovedParameters(each, removedParameterIndexes);
+            }
+        }
+    }
+    
+    private Collection<Integer> getRemovedParameterIndexes(final ShardingInCondition inCondition, final RouteUnit routeUnit) {
+        Collection<Integer> result = new LinkedList<>();
+        Collection<ShardingInValue> routedValues = new HashSet<>(inCondition.getValues(routeUnit));
+        for (ShardingInValue each : inCondition.getValues()) {
+            if (!routedValues.contains(each) && each.getExpression() instanceof ParameterMarkerExpressionSegment) {
+                result.add(((ParameterMarkerExpressionSegment) each.getExpression()).getParameterMarkerIndex());
+            }
+        }
+        return result;
+    }
+}
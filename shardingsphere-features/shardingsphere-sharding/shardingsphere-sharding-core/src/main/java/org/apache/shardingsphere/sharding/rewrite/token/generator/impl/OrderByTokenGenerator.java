@@ -21,8 +21,11 @@ import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.GroupByOrderByToken;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.OrderByToken;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ExpressionOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -34,30 +37,62 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatem
  */
 public final class OrderByTokenGenerator implements OptionalSQLTokenGenerator<SelectStatementContext>, IgnoreForSingleRoute {
     
+    private final boolean groupByStreamMergeEnabled;
+    
+    public OrderByTokenGenerator() {
+        this(false);
+    }
+    
+    public OrderByTokenGenerator(final boolean groupByStreamMergeEnabled) {
+        this.groupByStreamMergeEnabled = groupByStreamMergeEnabled;
+    }
+    
     @Override
     public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
-        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getOrderByContext().isGenerated();
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return selectStatementContext.getOrderByContext().isGenerated() || isOrderByGroupByItems(selectStatementContext);
     }
     
     @Override
-    public OrderByToken generateSQLToken(final SelectStatementContext selectStatementContext) {
+    public SQLToken generateSQLToken(final SelectStatementContext selectStatementContext) {
+        if (isOrderByGroupByItems(selectStatementContext)) {
+            return generateGroupByOrderByToken(selectStatementContext);
+        }
         OrderByToken result = new OrderByToken(getGenerateOrderByStartIndex(selectStatementContext));
-        String columnLabel;
         for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
-            if (each.getSegment() instanceof ColumnOrderByItemSegment) {
-                ColumnOrderByItemSegment columnOrderByItemSegment = (ColumnOrderByItemSegment) each.getSegment();
-                columnLabel = columnOrderByItemSegment.getText();
-            } else if (each.getSegment() instanceof ExpressionOrderByItemSegment) {
-                columnLabel = ((ExpressionOrderByItemSegment) each.getSegment()).getText();
-            } else {
-                columnLabel = String.valueOf(each.getIndex());
-            }
-            result.getColumnLabels().add(columnLabel);
+            result.getColumnLabels().add(getColumnLabel(each));
+            result.getOrderDirections().add(each.getSegment().getOrderDirection());
+        }
+        return result;
+    }
+    
+    private boolean isOrderByGroupByItems(final SelectStatementContext selectStatementContext) {
+        return groupByStreamMergeEnabled && selectStatementContext.isDifferentGroupByAndOrderByItems();
+    }
+    
+    private GroupByOrderByToken generateGroupByOrderByToken(final SelectStatementContext selectStatementContext) {
+        OrderBySegment orderBySegment = selectStatementContext.getSqlStatement().getOrderBy().orElseThrow(IllegalStateException::new);
+        GroupByOrderByToken result = new GroupByOrderByToken(orderBySegment.getStartIndex(), orderBySegment.getStopIndex());
+        for (OrderByItem each : selectStatementContext.getGroupByContext().getItems()) {
+            result.getColumnLabels().add(getColumnLabel(each));
             result.getOrderDirections().add(each.getSegment().getOrderDirection());
         }
         return result;
     }
     
+    private String getColumnLabel(final OrderByItem orderByItem) {
+        if (orderByItem.getSegment() instanceof ColumnOrderByItemSegment) {
+            return ((ColumnOrderByItemSegment) orderByItem.getSegment()).getText();
+        }
+        if (orderByItem.getSegment() instanceof ExpressionOrderByItemSegment) {
+            return ((ExpressionOrderByItemSegment) orderByItem.getSegment()).getText();
+        }
+        return String.valueOf(orderByItem.getIndex());
+    }
+    
     private int getGenerateOrderByStartIndex(final SelectStatementContext selectStatementContext) {
         SelectStatement sqlStatement = selectStatementContext.getSqlStatement();
         int stopIndex;
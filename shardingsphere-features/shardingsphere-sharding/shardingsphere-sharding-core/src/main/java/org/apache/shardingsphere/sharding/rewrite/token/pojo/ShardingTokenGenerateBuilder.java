@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OffsetTok
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OrderByTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ProjectionsTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.RowCountTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingInValuesTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingInsertValuesTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.TableTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.keygen.GeneratedKeyAssignmentTokenGenerator;
@@ -39,6 +40,8 @@ import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.keygen.Ge
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.SQLTokenGeneratorBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -53,6 +56,8 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
     
     private final RouteContext routeContext;
     
+    private final ConfigurationProperties props;
+    
     @Override
     public Collection<SQLTokenGenerator> getSQLTokenGenerators() {
         Collection<SQLTokenGenerator> result = buildSQLTokenGenerators();
@@ -72,7 +77,7 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
         addSQLTokenGenerator(result, new TableTokenGenerator());
         addSQLTokenGenerator(result, new DistinctProjectionPrefixTokenGenerator());
         addSQLTokenGenerator(result, new ProjectionsTokenGenerator());
-        addSQLTokenGenerator(result, new OrderByTokenGenerator());
+        addSQLTokenGenerator(result, new OrderByTokenGenerator(props.<Boolean>getValue(ConfigurationPropertyKey.GROUP_BY_STREAM_MERGE_ENABLED)));
         addSQLTokenGenerator(result, new AggregationDistinctTokenGenerator());
         addSQLTokenGenerator(result, new IndexTokenGenerator());
         addSQLTokenGenerator(result, new ConstraintTokenGenerator());
@@ -83,6 +88,9 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
         addSQLTokenGenerator(result, new GeneratedKeyAssignmentTokenGenerator());
         addSQLTokenGenerator(result, new ShardingInsertValuesTokenGenerator());
         addSQLTokenGenerator(result, new GeneratedKeyInsertValuesTokenGenerator());
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SHARDING_IN_VALUES_SPLIT_ENABLED)) {
+            addSQLTokenGenerator(result, new ShardingInValuesTokenGenerator(props));
+        }
         return result;
     }
     
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Sharding route cache.
+ * 
+ * <p>
+ * Routed data nodes are cached by table rule and sharding condition values, which are compared by column, table and values.
+ * Sharding condition values other than list and range are not cached.
+ * </p>
+ */
+public final class ShardingRouteCache {
+    
+    @Getter
+    private final int maximumSize;
+    
+    private final Cache<ShardingRouteCacheKey, Collection<DataNode>> cache;
+    
+    public ShardingRouteCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        cache = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get routed data nodes from cache, or route and cache them if absent.
+     * 
+     * @param tableRule table rule
+     * @param databaseShardingValues database sharding values
+     * @param tableShardingValues table sharding values
+     * @param router router to route data nodes if absent
+     * @return routed data nodes
+     */
+    public Collection<DataNode> get(final TableRule tableRule, final List<ShardingConditionValue> databaseShardingValues, final List<ShardingConditionValue> tableShardingValues,
+                                    final Supplier<Collection<DataNode>> router) {
+        Optional<List<Object>> databaseValues = normalize(databaseShardingValues);
+        Optional<List<Object>> tableValues = normalize(tableShardingValues);
+        if (!databaseValues.isPresent() || !tableValues.isPresent()) {
+            return router.get();
+        }
+        return cache.get(new ShardingRouteCacheKey(tableRule, databaseValues.get(), tableValues.get()), key -> Collections.unmodifiableList(new ArrayList<>(router.get())));
+    }
+    
+    private Optional<List<Object>> normalize(final List<ShardingConditionValue> shardingConditionValues) {
+        List<Object> result = new ArrayList<>(shardingConditionValues.size());
+        for (ShardingConditionValue each : shardingConditionValues) {
+            if (each instanceof ListShardingConditionValue) {
+                result.add(Arrays.asList(each.getColumnName(), each.getTableName(), new ArrayList<>(((ListShardingConditionValue<?>) each).getValues())));
+            } else if (each instanceof RangeShardingConditionValue) {
+                result.add(Arrays.asList(each.getColumnName(), each.getTableName(), ((RangeShardingConditionValue<?>) each).getValueRange()));
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.engine.condition.engine.impl;
 
 import com.google.common.collect.Range;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
@@ -27,21 +28,14 @@ import org.apache.shardingsphere.sharding.route.engine.condition.AlwaysFalseShar
 import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
-import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
+import org.apache.shardingsphere.sharding.route.engine.condition.engine.impl.WhereClauseShardingConditionExtractor.ShardingPredicate;
+import org.apache.shardingsphere.sharding.route.engine.condition.engine.impl.WhereClauseShardingConditionExtractor.ShardingWhereClause;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
-import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SafeNumberOperationUtil;
-import org.apache.shardingsphere.sql.parser.sql.common.util.WhereExtractUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -51,9 +45,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Sharding condition engine for where clause.
@@ -71,66 +63,47 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
             return Collections.emptyList();
         }
         List<ShardingCondition> result = new ArrayList<>();
-        for (WhereSegment each : getWhereSegments(sqlStatementContext)) {
-            result.addAll(createShardingConditions(sqlStatementContext, each.getExpr(), parameters));
+        for (ShardingWhereClause each : getExtractor(sqlStatementContext, parameters).getWhereClauses()) {
+            result.addAll(createShardingConditions(each, parameters));
         }
         return result;
     }
     
-    private Collection<ShardingCondition> createShardingConditions(final SQLStatementContext<?> sqlStatementContext, final ExpressionSegment expression, final List<Object> parameters) {
-        Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(expression);
-        Map<String, String> columnTableNames = getColumnTableNames(sqlStatementContext, andPredicates);
+    private Collection<ShardingCondition> createShardingConditions(final ShardingWhereClause whereClause, final List<Object> parameters) {
         Collection<ShardingCondition> result = new LinkedList<>();
-        for (AndPredicate each : andPredicates) {
-            Map<Column, Collection<ShardingConditionValue>> shardingConditionValues = createShardingConditionValueMap(each.getPredicates(), parameters, columnTableNames);
+        for (Collection<ShardingPredicate> each : whereClause.getAndPredicates()) {
+            Map<Column, Collection<ShardingConditionValue>> shardingConditionValues = createShardingConditionValueMap(each, parameters);
             if (shardingConditionValues.isEmpty()) {
                 return Collections.emptyList();
             }
             ShardingCondition shardingCondition = createShardingCondition(shardingConditionValues);
             // TODO remove startIndex when federation has perfect support for subquery
-            shardingCondition.setStartIndex(expression.getStartIndex());
+            shardingCondition.setStartIndex(whereClause.getStartIndex());
             result.add(shardingCondition);
         }
         return result;
     }
     
-    private Map<String, String> getColumnTableNames(final SQLStatementContext<?> sqlStatementContext, final Collection<AndPredicate> andPredicates) {
-        Collection<ColumnSegment> columns = andPredicates.stream().flatMap(each -> each.getPredicates().stream())
-                .flatMap(each -> ColumnExtractor.extract(each).stream()).filter(Objects::nonNull).collect(Collectors.toList());
-        return sqlStatementContext.getTablesContext().findTableName(columns, schema);
-    }
-    
-    private Collection<WhereSegment> getWhereSegments(final SQLStatementContext<?> sqlStatementContext) {
-        Collection<WhereSegment> result = new LinkedList<>();
-        ((WhereAvailable) sqlStatementContext).getWhere().ifPresent(result::add);
-        if (sqlStatementContext.getSqlStatement() instanceof SelectStatement) {
-            result.addAll(WhereExtractUtil.getSubqueryWhereSegments((SelectStatement) sqlStatementContext.getSqlStatement()));
-            result.addAll(WhereExtractUtil.getJoinWhereSegments((SelectStatement) sqlStatementContext.getSqlStatement()));
+    private WhereClauseShardingConditionExtractor getExtractor(final SQLStatementContext<?> sqlStatementContext, final List<Object> parameters) {
+        if (parameters.isEmpty() || !(sqlStatementContext instanceof CommonSQLStatementContext)) {
+            return new WhereClauseShardingConditionExtractor(sqlStatementContext, shardingRule, schema);
+        }
+        CommonSQLStatementContext<?> commonSQLStatementContext = (CommonSQLStatementContext<?>) sqlStatementContext;
+        Optional<WhereClauseShardingConditionExtractor> attachedExtractor = commonSQLStatementContext.findAttachment(WhereClauseShardingConditionExtractor.class);
+        if (attachedExtractor.isPresent() && attachedExtractor.get().isExtractedWith(shardingRule, schema)) {
+            return attachedExtractor.get();
         }
+        WhereClauseShardingConditionExtractor result = new WhereClauseShardingConditionExtractor(sqlStatementContext, shardingRule, schema);
+        commonSQLStatementContext.putAttachment(result);
         return result;
     }
     
-    private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ExpressionSegment> predicates, 
-                                                                                            final List<Object> parameters, final Map<String, String> columnTableNames) {
+    private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ShardingPredicate> predicates, final List<Object> parameters) {
         Map<Column, Collection<ShardingConditionValue>> result = new HashMap<>(predicates.size(), 1);
-        for (ExpressionSegment each : predicates) {
-            for (ColumnSegment columnSegment : ColumnExtractor.extract(each)) {
-                Optional<String> tableName = Optional.ofNullable(columnTableNames.get(columnSegment.getQualifiedName()));
-                if (!tableName.isPresent() || !shardingRule.isShardingColumn(columnSegment.getIdentifier().getValue(), tableName.get())) {
-                    continue;
-                }
-                Column column = new Column(columnSegment.getIdentifier().getValue(), tableName.get());
-                Optional<ShardingConditionValue> shardingConditionValue = ConditionValueGeneratorFactory.generate(each, column, parameters);
-                if (!shardingConditionValue.isPresent()) {
-                    continue;
-                }
-                if (!result.containsKey(column)) {
-                    Collection<ShardingConditionValue> shardingConditionValues = new LinkedList<>();
-                    shardingConditionValues.add(shardingConditionValue.get());
-                    result.put(column, shardingConditionValues);
-                } else {
-                    result.get(column).add(shardingConditionValue.get());
-                }
+        for (ShardingPredicate each : predicates) {
+            Optional<ShardingConditionValue> shardingConditionValue = each.generate(parameters);
+            if (shardingConditionValue.isPresent()) {
+                result.computeIfAbsent(each.getColumn(), key -> new LinkedList<>()).add(shardingConditionValue.get());
             }
         }
         return result;
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.engine.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.route.engine.condition.ExpressionConditionUtils;
+import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.util.WhereExtractUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Where clause sharding condition extractor.
+ * 
+ * <p>
+ * Predicates of sharding columns are resolved from where segments only once for each SQL statement context,
+ * and predicates without parameter markers are generated to sharding condition values at the same time.
+ * Only sharding condition values of predicates with parameter markers are generated for each execution.
+ * </p>
+ */
+final class WhereClauseShardingConditionExtractor {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final long schemaVersion;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final Collection<ShardingWhereClause> whereClauses = new LinkedList<>();
+    
+    WhereClauseShardingConditionExtractor(final SQLStatementContext<?> sqlStatementContext, final ShardingRule shardingRule, final ShardingSphereSchema schema) {
+        this.shardingRule = shardingRule;
+        this.schema = schema;
+        schemaVersion = schema.getVersion();
+        for (WhereSegment each : getWhereSegments(sqlStatementContext)) {
+            whereClauses.add(createWhereClause(sqlStatementContext, each.getExpr()));
+        }
+    }
+    
+    private Collection<WhereSegment> getWhereSegments(final SQLStatementContext<?> sqlStatementContext) {
+        Collection<WhereSegment> result = new LinkedList<>();
+        ((WhereAvailable) sqlStatementContext).getWhere().ifPresent(result::add);
+        if (sqlStatementContext.getSqlStatement() instanceof SelectStatement) {
+            result.addAll(WhereExtractUtil.getSubqueryWhereSegments((SelectStatement) sqlStatementContext.getSqlStatement()));
+            result.addAll(WhereExtractUtil.getJoinWhereSegments((SelectStatement) sqlStatementContext.getSqlStatement()));
+        }
+        return result;
+    }
+    
+    private ShardingWhereClause createWhereClause(final SQLStatementContext<?> sqlStatementContext, final ExpressionSegment expression) {
+        Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(expression);
+        Map<String, String> columnTableNames = getColumnTableNames(sqlStatementContext, andPredicates);
+        List<Collection<ShardingPredicate>> result = new ArrayList<>(andPredicates.size());
+        for (AndPredicate each : andPredicates) {
+            result.add(createShardingPredicates(each.getPredicates(), columnTableNames));
+        }
+        return new ShardingWhereClause(expression.getStartIndex(), result);
+    }
+    
+    private Map<String, String> getColumnTableNames(final SQLStatementContext<?> sqlStatementContext, final Collection<AndPredicate> andPredicates) {
+        Collection<ColumnSegment> columns = andPredicates.stream().flatMap(each -> each.getPredicates().stream())
+                .flatMap(each -> ColumnExtractor.extract(each).stream()).filter(Objects::nonNull).collect(Collectors.toList());
+        return sqlStatementContext.getTablesContext().findTableName(columns, schema);
+    }
+    
+    private Collection<ShardingPredicate> createShardingPredicates(final Collection<ExpressionSegment> predicates, final Map<String, String> columnTableNames) {
+        Collection<ShardingPredicate> result = new LinkedList<>();
+        for (ExpressionSegment each : predicates) {
+            for (ColumnSegment columnSegment : ColumnExtractor.extract(each)) {
+                Optional<String> tableName = Optional.ofNullable(columnTableNames.get(columnSegment.getQualifiedName()));
+                if (tableName.isPresent() && shardingRule.isShardingColumn(columnSegment.getIdentifier().getValue(), tableName.get())) {
+                    result.add(createShardingPredicate(new Column(columnSegment.getIdentifier().getValue(), tableName.get()), each));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private ShardingPredicate createShardingPredicate(final Column column, final ExpressionSegment predicate) {
+        if (!isConstant(predicate)) {
+            return new ShardingPredicate(column, predicate, null, false);
+        }
+        try {
+            return new ShardingPredicate(column, predicate, ConditionValueGeneratorFactory.generate(predicate, column, Collections.emptyList()).orElse(null), true);
+        } catch (final IllegalArgumentException ex) {
+            return new ShardingPredicate(column, predicate, null, false);
+        }
+    }
+    
+    private boolean isConstant(final ExpressionSegment predicate) {
+        return getValueExpressions(predicate).stream().noneMatch(each -> each instanceof ParameterMarkerExpressionSegment || ExpressionConditionUtils.isNowExpression(each));
+    }
+    
+    private Collection<ExpressionSegment> getValueExpressions(final ExpressionSegment predicate) {
+        if (predicate instanceof BinaryOperationExpression) {
+            return Arrays.asList(((BinaryOperationExpression) predicate).getLeft(), ((BinaryOperationExpression) predicate).getRight());
+        }
+        if (predicate instanceof InExpression) {
+            return ((InExpression) predicate).getExpressionList();
+        }
+        if (predicate instanceof BetweenExpression) {
+            return Arrays.asList(((BetweenExpression) predicate).getBetweenExpr(), ((BetweenExpression) predicate).getAndExpr());
+        }
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Judge whether extracted with sharding rule and schema.
+     * 
+     * @param shardingRule sharding rule
+     * @param schema ShardingSphere schema
+     * @return extracted with sharding rule and schema or not
+     */
+    boolean isExtractedWith(final ShardingRule shardingRule, final ShardingSphereSchema schema) {
+        return this.shardingRule == shardingRule && this.schema == schema && schemaVersion == schema.getVersion();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter(AccessLevel.PACKAGE)
+    static final class ShardingWhereClause {
+        
+        private final int startIndex;
+        
+        private final List<Collection<ShardingPredicate>> andPredicates;
+    }
+    
+    @RequiredArgsConstructor
+    static final class ShardingPredicate {
+        
+        @Getter(AccessLevel.PACKAGE)
+        private final Column column;
+        
+        private final ExpressionSegment expression;
+        
+        private final ShardingConditionValue constantValue;
+        
+        private final boolean constant;
+        
+        /**
+         * Generate sharding condition value.
+         * 
+         * @param parameters SQL parameters
+         * @return sharding condition value
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Optional<ShardingConditionValue> generate(final List<Object> parameters) {
+            if (!constant) {
+                return ConditionValueGeneratorFactory.generate(expression, column, parameters);
+            }
+            if (constantValue instanceof ListShardingConditionValue) {
+                return Optional.of(new ListShardingConditionValue<>(column.getName(), column.getTableName(), new ArrayList<>(((ListShardingConditionValue) constantValue).getValues())));
+            }
+            return Optional.ofNullable(constantValue);
+        }
+    }
+}
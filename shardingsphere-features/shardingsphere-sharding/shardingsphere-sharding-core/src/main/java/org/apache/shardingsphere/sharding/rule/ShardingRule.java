@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -36,6 +37,10 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
@@ -44,6 +49,7 @@ import org.apache.shardingsphere.spi.required.RequiredSPIRegistry;
 
 import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -53,6 +59,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -75,6 +82,9 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     private final Map<String, TableRule> tableRules = new LinkedHashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
     private final Collection<BindingTableRule> bindingTableRules;
     
     private final Collection<String> broadcastTables;
@@ -87,6 +97,15 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
 
     private final String defaultShardingColumn;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<TableRule, ShardingStrategy> databaseShardingStrategies = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<TableRule, ShardingStrategy> tableShardingStrategies = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile ShardingRouteCache routeCache;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources cannot be empty.");
         dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceMap.keySet());
@@ -94,6 +113,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         config.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, KeyGenerateAlgorithm.class)));
         tableRules.putAll(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.putAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        actualTableRules = createActualTableRules(tableRules.values());
         broadcastTables = createBroadcastTables(config.getBroadcastTables());
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
@@ -110,6 +130,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         keyGenerators.putAll(config.getKeyGenerators());
         tableRules.putAll(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.putAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        actualTableRules = createActualTableRules(tableRules.values());
         broadcastTables = createBroadcastTables(config.getBroadcastTables());
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
@@ -164,6 +185,16 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return Optional.ofNullable(defaultKeyGenerateStrategyConfig).map(KeyGenerateStrategyConfiguration::getColumn).orElse(null);
     }
     
+    private Map<String, TableRule> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
     private Collection<String> createBroadcastTables(final Collection<String> broadcastTables) {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(broadcastTables);
@@ -209,6 +240,48 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return null == tableRule.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : tableRule.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy, which is created once for each table rule.
+     *
+     * @param tableRule table rule
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final TableRule tableRule) {
+        ShardingStrategy result = databaseShardingStrategies.get(tableRule);
+        return null == result ? databaseShardingStrategies.computeIfAbsent(tableRule, key -> createShardingStrategy(getDatabaseShardingStrategyConfiguration(key))) : result;
+    }
+    
+    /**
+     * Get table sharding strategy, which is created once for each table rule.
+     *
+     * @param tableRule table rule
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final TableRule tableRule) {
+        ShardingStrategy result = tableShardingStrategies.get(tableRule);
+        return null == result ? tableShardingStrategies.computeIfAbsent(tableRule, key -> createShardingStrategy(getTableShardingStrategyConfiguration(key))) : result;
+    }
+    
+    /**
+     * Get sharding route cache, which is dropped together with this rule when sharding rule is altered.
+     *
+     * @param maximumSize maximum size of sharding route cache
+     * @return sharding route cache
+     */
+    public ShardingRouteCache getRouteCache(final int maximumSize) {
+        ShardingRouteCache result = routeCache;
+        if (null == result || result.getMaximumSize() != maximumSize) {
+            result = new ShardingRouteCache(maximumSize);
+            routeCache = result;
+        }
+        return result;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
     /**
      * Find table rule.
      *
@@ -226,7 +299,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return Optional.ofNullable(actualTableRules.get(actualTableName));
     }
     
     /**
@@ -470,7 +543,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     @Override
     public Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
+        return new HashSet<>(actualTableRules.keySet());
     }
     
     @Override
@@ -497,11 +570,15 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     @Override
     public Optional<String> findActualTableByCatalog(final String catalog, final String logicTable) {
-        return findTableRule(logicTable).flatMap(tableRule -> findActualTableFromActualDataNode(catalog, tableRule.getActualDataNodes()));
+        return findTableRule(logicTable).flatMap(tableRule -> findActualTableFromActualDataNode(catalog, tableRule));
     }
     
-    private Optional<String> findActualTableFromActualDataNode(final String catalog, final List<DataNode> actualDataNodes) {
-        return actualDataNodes.stream().filter(each -> each.getDataSourceName().equalsIgnoreCase(catalog)).findFirst().map(DataNode::getTableName);
+    private Optional<String> findActualTableFromActualDataNode(final String catalog, final TableRule tableRule) {
+        Collection<String> actualTableNames = tableRule.getActualTableNames(catalog);
+        if (!actualTableNames.isEmpty()) {
+            return Optional.of(actualTableNames.iterator().next());
+        }
+        return tableRule.getActualDataNodes().stream().filter(each -> each.getDataSourceName().equalsIgnoreCase(catalog)).findFirst().map(DataNode::getTableName);
     }
     
     @Override
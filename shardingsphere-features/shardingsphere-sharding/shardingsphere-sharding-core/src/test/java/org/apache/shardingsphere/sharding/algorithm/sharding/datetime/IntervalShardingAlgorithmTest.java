@@ -26,6 +26,7 @@ import org.junit.Test;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -168,6 +169,13 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(24));
     }
     
+    @Test
+    public void assertOpenRangeDoShardingOnStepBoundariesByDay() {
+        Collection<String> actual = shardingAlgorithmByDay.doSharding(
+                availableTablesForDayDataSources, new RangeShardingValue<>("t_order", "create_time", Range.open("2021-06-03 00:00:00", "2021-06-05 00:00:00")));
+        assertThat(actual, is(Collections.singleton("t_order_20210603")));
+    }
+    
     @Test
     public void assertFormat() {
         String inputFormat = "yyyy-MM-dd HH:mm:ss.SSS";
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
+import org.apache.shardingsphere.sharding.support.InlineExpressionEvaluator;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
@@ -107,4 +110,30 @@ public final class InlineExpressionParserTest {
         assertThat(expected.size(), is(1024));
         assertThat(expected, hasItems("ds_0.t_user_0", "ds_15.t_user_1023"));
     }
+    
+    @Test
+    public void assertCompile() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionParser("t_order_${order_id % 4}").compile();
+        assertThat(evaluator.evaluate(Collections.singletonMap("order_id", 7)), is("t_order_3"));
+        assertThat(evaluator.evaluate(Collections.singletonMap("order_id", 7L)), is("t_order_3"));
+        assertThat(evaluator.evaluate(Collections.singletonMap("order_id", -7)), is("t_order_-3"));
+        assertThat(new InlineExpressionParser("t_order_${order_id}").compile().evaluate(Collections.emptyMap()), is("t_order_null"));
+    }
+    
+    @Test
+    public void assertCompileWithCalculation() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionParser("ds_${(user_id + 1) * 2 % 3}.t_${Math.abs(name.hashCode()) % 4}_${- user_id + name}").compile();
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 5);
+        variables.put("name", "foo");
+        assertThat(evaluator.evaluate(variables), is("ds_0.t_2_-5foo"));
+        assertThat(new InlineExpressionParser("t_${order_id + 1}").compile().evaluate(Collections.singletonMap("order_id", Integer.MAX_VALUE)), is("t_-2147483648"));
+    }
+    
+    @Test
+    public void assertCompileWithGroovyFallback() {
+        assertThat(new InlineExpressionParser("t_order_${order_id / 2}").compile().evaluate(Collections.singletonMap("order_id", 7)), is("t_order_3.5"));
+        assertThat(new InlineExpressionParser("t_order_${order_id * 2}").compile().evaluate(Collections.singletonMap("order_id", "ab")), is("t_order_abab"));
+        assertThat(new InlineExpressionParser("t_order_${it}").compile().evaluate(Collections.singletonMap("it", 1)), is("t_order_null"));
+    }
 }
@@ -63,4 +63,18 @@ public final class ModShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_3"));
         assertTrue(actual.contains("t_order_0"));
     }
+    
+    @Test
+    public void assertDoShardingWithSuffixOverlappedTargets() {
+        ModShardingAlgorithm shardingAlgorithm = new ModShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("sharding-count", "16");
+        shardingAlgorithm.init();
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_10", "t_order_11");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 17L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 27L)), is("t_order_11"));
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.closed(17L, 17L)));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_1"));
+        assertTrue(actual.contains("t_order_11"));
+    }
 }
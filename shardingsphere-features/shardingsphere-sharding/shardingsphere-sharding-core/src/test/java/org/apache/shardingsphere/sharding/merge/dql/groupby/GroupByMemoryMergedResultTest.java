@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -43,14 +44,23 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -101,6 +111,124 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForParallelMerge() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        mockRows(queryResult1, new Object[]{20, 10, 2, 2, 20});
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult();
+        mockRows(queryResult3, new Object[]{20, 10, 2, 2, 20}, new Object[]{30, 10, 3, 3, 30});
+        try (ExecutorEngine executorEngine = new ExecutorEngine(2)) {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 0, "", false, false, 2, executorEngine);
+            MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), null);
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(3));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(2));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+            assertFalse(actual.next());
+        }
+    }
+    
+    @Test
+    public void assertNextForParallelMergeWithFailure() throws SQLException, InterruptedException {
+        CountDownLatch partitionStarted = new CountDownLatch(1);
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenAnswer(invocation -> {
+            partitionStarted.await(5L, TimeUnit.SECONDS);
+            throw new SQLException("Failed to iterate query result.");
+        });
+        AtomicInteger partitionNextCount = new AtomicInteger();
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenAnswer(invocation -> {
+            partitionNextCount.incrementAndGet();
+            partitionStarted.countDown();
+            Thread.sleep(5L);
+            return true;
+        });
+        when(queryResult2.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> new Object[]{20, 10, 2, 2, 20}[(int) invocation.getArgument(0) - 1]);
+        try (ExecutorEngine executorEngine = new ExecutorEngine(2)) {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 0, "", false, false, 2, executorEngine);
+            try {
+                resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+                fail("Expected failure of merging thread partition.");
+            } catch (final SQLException ex) {
+                assertThat(ex.getMessage(), is("Failed to iterate query result."));
+            }
+            int expectedPartitionNextCount = partitionNextCount.get();
+            Thread.sleep(50L);
+            assertThat(partitionNextCount.get(), is(expectedPartitionNextCount));
+        }
+    }
+    
+    @Test
+    public void assertNextForParallelMergeWithSingleThreadExecutor() throws SQLException {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return false;
+        });
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return false;
+        });
+        try (ExecutorEngine executorEngine = new ExecutorEngine(1)) {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 0, "", false, false, 2, executorEngine);
+            resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        }
+        assertThat(threads, is(Collections.singleton(Thread.currentThread())));
+    }
+    
+    @Test
+    public void assertNextForIntegralAggregationValues() throws SQLException {
+        QueryResult queryResult1 = createIntegralQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20L);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2L);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createIntegralQueryResult();
+        when(queryResult2.next()).thenReturn(true, true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(20L, 30L);
+        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 3);
+        when(queryResult2.getValue(4, Object.class)).thenReturn(2L, 2L, 3L);
+        when(queryResult2.getValue(5, Object.class)).thenReturn(20, 20, 30);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult createIntegralQueryResult() throws SQLException {
+        QueryResult result = createQueryResult();
+        for (int i = 1; i <= 5; i++) {
+            when(result.getMetaData().getColumnType(i)).thenReturn(Types.BIGINT);
+        }
+        return result;
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -161,6 +289,12 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    private void mockRows(final QueryResult queryResult, final Object[]... rows) throws SQLException {
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(queryResult.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(queryResult.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArgument(0) - 1]);
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.getMetaData().getColumnCount()).thenReturn(5);
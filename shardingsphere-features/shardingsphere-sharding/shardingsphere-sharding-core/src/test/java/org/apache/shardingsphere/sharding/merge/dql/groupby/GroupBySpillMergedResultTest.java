@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1000, "", false, false, 0, null);
+        MergedResult actual = resultMerger.merge(createQueryResults(20, 30), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertMergedResult(actual, 20, 30);
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 3, "", false, false, 0, null);
+        MergedResult actual = resultMerger.merge(createQueryResults(12, 10, 8), createSelectStatementContext(), null);
+        assertMergedResult(actual, 12, 10, 8);
+    }
+    
+    @Test
+    public void assertNextWithSpillRecursively() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1, "", false, false, 0, null);
+        MergedResult actual = resultMerger.merge(createQueryResults(6, 6), createSelectStatementContext(), null);
+        assertMergedResult(actual, 6, 6);
+    }
+    
+    @Test
+    public void assertNextWithSortedRunsMoreThanMaxMergeWay() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1, "", false, false, 0, null);
+        MergedResult actual = resultMerger.merge(createQueryResults(80, 70), createSelectStatementContext(), null);
+        assertMergedResult(actual, 80, 70);
+    }
+    
+    @Test
+    public void assertNextWithMaxGroupSizeFromHint() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setMemoryMergeMaxGroupSize(2);
+            MergedResult actual = resultMerger.merge(createQueryResults(10, 10), createSelectStatementContext(), null);
+            assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+            assertMergedResult(actual, 10, 10);
+        }
+        assertThat(resultMerger.merge(createQueryResults(10, 10), createSelectStatementContext(), null), instanceOf(GroupByMemoryMergedResult.class));
+    }
+    
+    @Test
+    public void assertNextWithSpillDirectory() throws SQLException {
+        String spillDirectory = System.getProperty("java.io.tmpdir") + "/not-existed-group-by-spill-directory";
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 3, spillDirectory, false, false, 0, null);
+        try {
+            resultMerger.merge(createQueryResults(12, 10, 8), createSelectStatementContext(), null);
+            fail("Expected spill directory to be used.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), containsString(spillDirectory));
+        }
+    }
+    
+    @Test
+    public void assertNextAfterClose() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1, "", false, false, 0, null);
+        MergedResult actual = resultMerger.merge(createQueryResults(80, 70), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(79));
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithUnspillableColumnType() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 3, "", false, false, 0, null);
+        List<QueryResult> queryResults = createQueryResults(12, 10, 8);
+        for (QueryResult each : queryResults) {
+            when(each.getMetaData().getColumnType(3)).thenReturn(Types.OTHER);
+        }
+        MergedResult actual = resultMerger.merge(queryResults, createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+        assertMergedResult(actual, 12, 10, 8);
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertNextWithUnserializableValue() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 3, "", false, false, 0, null);
+        List<QueryResult> queryResults = createQueryResults(12, 10, 8);
+        AtomicInteger id = new AtomicInteger();
+        for (QueryResult each : queryResults) {
+            when(each.getValue(3, Object.class)).thenAnswer(invocation -> new UnserializableValue(id.incrementAndGet()));
+        }
+        resultMerger.merge(queryResults, createSelectStatementContext(), null);
+    }
+    
+    private void assertMergedResult(final MergedResult actual, final int... rowCounts) throws SQLException {
+        for (int id = Arrays.stream(rowCounts).max().orElse(0) - 1; id >= 0; id--) {
+            assertTrue(actual.next());
+            int groupId = id;
+            int count = (int) Arrays.stream(rowCounts).filter(each -> each > groupId).count();
+            assertThat(actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private List<QueryResult> createQueryResults(final int... rowCounts) throws SQLException {
+        List<QueryResult> result = new ArrayList<>(rowCounts.length);
+        for (int each : rowCounts) {
+            result.add(createQueryResult(each));
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int rowCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rowCount);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> {
+            int columnIndex = invocation.getArgument(0);
+            return 3 == columnIndex || 5 == columnIndex ? cursor.get() : 1;
+        });
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getSchema()).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class UnserializableValue implements Comparable<UnserializableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final UnserializableValue o) {
+            return Integer.compare(value, o.value);
+        }
+    }
+}
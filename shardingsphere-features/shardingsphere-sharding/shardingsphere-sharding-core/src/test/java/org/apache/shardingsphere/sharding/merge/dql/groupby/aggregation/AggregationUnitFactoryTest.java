@@ -17,11 +17,21 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class AggregationUnitFactoryTest {
     
@@ -56,4 +66,40 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true), instanceOf(DistinctAverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateLongAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, true), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, true), instanceOf(LongAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, true), instanceOf(ComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, true), instanceOf(DistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, false), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, true, true), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, true, false), instanceOf(DistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, true, true), instanceOf(DistinctSumAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertIsIntegralValue() throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.getColumnType(2)).thenReturn(Types.DECIMAL);
+        AggregationProjection count = new AggregationProjection(AggregationType.COUNT, "(*)", null, null);
+        count.setIndex(3);
+        assertTrue(AggregationUnitFactory.isIntegralValue(count, metaData));
+        AggregationProjection integralSum = new AggregationProjection(AggregationType.SUM, "(num)", null, null);
+        integralSum.setIndex(1);
+        assertTrue(AggregationUnitFactory.isIntegralValue(integralSum, metaData));
+        AggregationProjection decimalSum = new AggregationProjection(AggregationType.SUM, "(price)", null, null);
+        decimalSum.setIndex(2);
+        assertFalse(AggregationUnitFactory.isIntegralValue(decimalSum, metaData));
+        AggregationProjection avg = new AggregationProjection(AggregationType.AVG, "(price)", null, null);
+        avg.getDerivedAggregationProjections().addAll(Arrays.asList(count, decimalSum));
+        assertFalse(AggregationUnitFactory.isIntegralValue(avg, metaData));
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertExactDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit distinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        distinctCountAggregationUnit.merge(null);
+        distinctCountAggregationUnit.merge(Collections.singletonList(null));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList("foo"));
+        assertThat(distinctCountAggregationUnit.getResult(), is(2L));
+    }
+    
+    @Test
+    public void assertApproximateDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit distinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 2; i++) {
+            for (long value = 0; value < 100000; value++) {
+                distinctCountAggregationUnit.merge(Collections.singletonList(value));
+                distinctCountAggregationUnit.merge(Collections.singletonList("value_" + value));
+            }
+        }
+        long actual = (Long) distinctCountAggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 200000) < 200000 * 0.03);
+    }
+    
+    @Test
+    public void assertCombine() {
+        ApproximateDistinctCountAggregationUnit distinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        ApproximateDistinctCountAggregationUnit otherDistinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (long value = 0; value < 100000; value++) {
+            distinctCountAggregationUnit.merge(Collections.singletonList(value));
+            otherDistinctCountAggregationUnit.merge(Collections.singletonList(value + 50000));
+        }
+        ApproximateDistinctCountAggregationUnit exactDistinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        exactDistinctCountAggregationUnit.merge(Collections.singletonList("foo"));
+        distinctCountAggregationUnit.combine(otherDistinctCountAggregationUnit);
+        distinctCountAggregationUnit.combine(exactDistinctCountAggregationUnit);
+        long actual = (Long) distinctCountAggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 150001) < 150001 * 0.03);
+    }
+}
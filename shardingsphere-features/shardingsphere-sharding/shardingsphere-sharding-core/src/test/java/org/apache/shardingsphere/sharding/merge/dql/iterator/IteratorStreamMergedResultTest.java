@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.iterator;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
@@ -24,6 +26,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Before;
@@ -31,6 +34,7 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -38,6 +42,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class IteratorStreamMergedResultTest {
@@ -118,4 +124,37 @@ public final class IteratorStreamMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextForExecutionGroupsInCompletionOrder() throws SQLException {
+        QueryResult firstQueryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(firstQueryResult.next()).thenReturn(true, false);
+        QueryResult secondQueryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(secondQueryResult.next()).thenReturn(true, false);
+        SettableFuture<Collection<QueryResult>> firstGroupFuture = SettableFuture.create();
+        SettableFuture<Collection<QueryResult>> secondGroupFuture = SettableFuture.create();
+        ExecutionGroupResultIterator<QueryResult> groupResults = new ExecutionGroupResultIterator<>(Collections.emptyList(), Arrays.asList(firstGroupFuture, secondGroupFuture));
+        secondGroupFuture.set(Collections.singletonList(secondQueryResult));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(groupResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        assertFalse(firstGroupFuture.isDone());
+        firstGroupFuture.set(Collections.singletonList(firstQueryResult));
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        verify(firstQueryResult, times(2)).next();
+        verify(secondQueryResult, times(2)).next();
+    }
+    
+    @Test
+    public void assertNextForExecutionGroupsWithFirstCompletedGroupEmpty() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.next()).thenReturn(true, false);
+        ExecutionGroupResultIterator<QueryResult> groupResults = new ExecutionGroupResultIterator<>(Collections.emptyList(), 
+                Arrays.asList(Futures.immediateFuture(Collections.emptyList()), Futures.immediateFuture(Collections.singletonList(queryResult))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(groupResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
 }
@@ -41,9 +41,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -105,6 +107,57 @@ public final class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            QueryResult queryResult = mock(QueryResult.class);
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResult.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            when(queryResult.next()).thenReturn(true, true, true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn(i, i, i + 7, i + 7, i + 14, i + 14);
+            queryResults.add(queryResult);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, buildSchema());
+        for (int i = 0; i < 21; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertSkip() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(4);
+        for (int i = 0; i < 3; i++) {
+            queryResults.add(mockQueryResult(i * 7, 7, 1));
+        }
+        queryResults.add(mockQueryResult(1, 4, 5));
+        OrderByStreamMergedResult actual = new OrderByStreamMergedResult(queryResults, selectStatementContext, buildSchema());
+        assertTrue(actual.skip(12));
+        assertThat(actual.getValue(1, Object.class), is(9));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(10));
+        assertTrue(actual.skip(10));
+        assertThat(actual.getValue(1, Object.class), is(18));
+        assertFalse(actual.skip(5));
+    }
+    
+    private QueryResult mockQueryResult(final int start, final int rowCount, final int step) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnName(1)).thenReturn("col1");
+        when(metaData.getColumnName(2)).thenReturn("col2");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rowCount);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> start + rowIndex.get() * step);
+        return result;
+    }
+    
     @Test
     public void assertNextForMix() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
@@ -21,8 +21,10 @@ import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OrderByTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.GroupByOrderByToken;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.OrderByToken;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ExpressionOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQ
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Optional;
 
@@ -62,6 +65,10 @@ public final class OrderByTokenGeneratorTest {
         assertFalse(orderByTokenGenerator.isGenerateSQLToken(selectStatementContext));
         when(selectStatementContext.getOrderByContext().isGenerated()).thenReturn(Boolean.TRUE);
         assertTrue(orderByTokenGenerator.isGenerateSQLToken(selectStatementContext));
+        when(selectStatementContext.getOrderByContext().isGenerated()).thenReturn(Boolean.FALSE);
+        when(selectStatementContext.isDifferentGroupByAndOrderByItems()).thenReturn(Boolean.TRUE);
+        assertFalse(orderByTokenGenerator.isGenerateSQLToken(selectStatementContext));
+        assertTrue(new OrderByTokenGenerator(true).isGenerateSQLToken(selectStatementContext));
     }
 
     @Test
@@ -76,13 +83,31 @@ public final class OrderByTokenGeneratorTest {
         Collection<OrderByItem> orderByItemCollection = getOrderByItemCollection();
         when(selectStatementContext.getOrderByContext().getItems()).thenReturn(orderByItemCollection);
         OrderByTokenGenerator orderByTokenGenerator = new OrderByTokenGenerator();
-        OrderByToken orderByToken = orderByTokenGenerator.generateSQLToken(selectStatementContext);
+        OrderByToken orderByToken = (OrderByToken) orderByTokenGenerator.generateSQLToken(selectStatementContext);
         assertThat(orderByToken.getColumnLabels().get(0), is(TEST_COLUMN_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL));
         assertThat(orderByToken.getColumnLabels().get(1), is(TEST_EXPRESSION_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL));
         assertThat(orderByToken.getColumnLabels().get(2), is(String.valueOf(TEST_OTHER_CLASS_ORDER_BY_ITEM_INDEX)));
         assertThat(orderByToken.getOrderDirections().get(0), is(orderDirection));
     }
 
+    @Test
+    public void assertGenerateGroupByOrderByToken() {
+        MySQLSelectStatement mySQLSelectStatement = mock(MySQLSelectStatement.class);
+        when(mySQLSelectStatement.getOrderBy()).thenReturn(Optional.of(new OrderBySegment(30, 45, Collections.emptyList())));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement()).thenReturn(mySQLSelectStatement);
+        when(selectStatementContext.isDifferentGroupByAndOrderByItems()).thenReturn(Boolean.TRUE);
+        Collection<OrderByItem> groupByItemCollection = getOrderByItemCollection();
+        when(selectStatementContext.getGroupByContext().getItems()).thenReturn(groupByItemCollection);
+        GroupByOrderByToken groupByOrderByToken = (GroupByOrderByToken) new OrderByTokenGenerator(true).generateSQLToken(selectStatementContext);
+        assertThat(groupByOrderByToken.getStartIndex(), is(30));
+        assertThat(groupByOrderByToken.getStopIndex(), is(45));
+        assertThat(groupByOrderByToken.getColumnLabels().get(0), is(TEST_COLUMN_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL));
+        assertThat(groupByOrderByToken.getColumnLabels().get(1), is(TEST_EXPRESSION_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL));
+        assertThat(groupByOrderByToken.getColumnLabels().get(2), is(String.valueOf(TEST_OTHER_CLASS_ORDER_BY_ITEM_INDEX)));
+        assertThat(groupByOrderByToken.getOrderDirections().get(0), is(orderDirection));
+    }
+    
     private Collection<OrderByItem> getOrderByItemCollection() {
         ColumnOrderByItemSegment columnOrderByItemSegment = mock(ColumnOrderByItemSegment.class);
         when(columnOrderByItemSegment.getText()).thenReturn(TEST_COLUMN_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL);
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingRouteCacheTest {
+    
+    private final ShardingRouteCache routeCache = new ShardingRouteCache(16);
+    
+    private final AtomicInteger routeTimes = new AtomicInteger();
+    
+    @Test
+    public void assertGetWithEqualShardingValues() {
+        TableRule tableRule = mock(TableRule.class);
+        assertThat(get(tableRule, new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1))), is(Collections.singletonList(new DataNode("ds_0.t_order_1"))));
+        assertThat(get(tableRule, new ListShardingConditionValue<>("order_id", "t_order", Collections.singletonList(1))), is(Collections.singletonList(new DataNode("ds_0.t_order_1"))));
+        assertThat(routeTimes.get(), is(1));
+        get(tableRule, new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(2)));
+        get(mock(TableRule.class), new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1)));
+        assertThat(routeTimes.get(), is(3));
+    }
+    
+    @Test
+    public void assertGetWithRangeShardingValues() {
+        TableRule tableRule = mock(TableRule.class);
+        get(tableRule, new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1, 10)));
+        get(tableRule, new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1, 10)));
+        get(tableRule, new RangeShardingConditionValue<>("order_id", "t_order", Range.closedOpen(1, 10)));
+        assertThat(routeTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertGetWithUncachedShardingValues() {
+        TableRule tableRule = mock(TableRule.class);
+        get(tableRule, new AlwaysFalseShardingConditionValue());
+        get(tableRule, new AlwaysFalseShardingConditionValue());
+        assertThat(routeTimes.get(), is(2));
+    }
+    
+    private Collection<DataNode> get(final TableRule tableRule, final ShardingConditionValue tableShardingValue) {
+        List<ShardingConditionValue> tableShardingValues = Collections.singletonList(tableShardingValue);
+        return routeCache.get(tableRule, Collections.emptyList(), tableShardingValues, () -> {
+            routeTimes.incrementAndGet();
+            return Collections.singletonList(new DataNode("ds_0.t_order_1"));
+        });
+    }
+}
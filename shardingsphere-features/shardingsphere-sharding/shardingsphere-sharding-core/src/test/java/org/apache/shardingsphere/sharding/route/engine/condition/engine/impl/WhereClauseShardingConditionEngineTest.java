@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.engine.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.datetime.DatetimeService;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class WhereClauseShardingConditionEngineTest {
+    
+    private WhereClauseShardingConditionEngine shardingConditionEngine;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereServiceLoader.register(DatetimeService.class);
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.isShardingColumn("order_id", "t_order")).thenReturn(true);
+        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, mock(ShardingSphereSchema.class));
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithSameStatementContext() {
+        UpdateStatementContext sqlStatementContext = new UpdateStatementContext(createUpdateStatement(), DefaultSchema.LOGIC_NAME);
+        assertShardingConditionValues(shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.singletonList(2)), 2);
+        WhereClauseShardingConditionExtractor extractor = sqlStatementContext.findAttachment(WhereClauseShardingConditionExtractor.class).orElse(null);
+        assertNotNull(extractor);
+        assertShardingConditionValues(shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.singletonList(1)), 1);
+        assertThat(sqlStatementContext.findAttachment(WhereClauseShardingConditionExtractor.class).orElse(null), is(extractor));
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private void assertShardingConditionValues(final List<ShardingCondition> actual, final int expectedValue) {
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues().size(), is(1));
+        assertThat(new ArrayList<>(((ListShardingConditionValue) actual.get(0).getValues().get(0)).getValues()), is(Collections.singletonList(expectedValue)));
+    }
+    
+    private UpdateStatement createUpdateStatement() {
+        UpdateStatement result = new MySQLUpdateStatement();
+        result.setTableSegment(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        AssignmentSegment assignment = new ColumnAssignmentSegment(0, 0, Collections.singletonList(new ColumnSegment(0, 0, new IdentifierValue("status"))), new LiteralExpressionSegment(0, 0, "OK"));
+        result.setSetAssignment(new SetAssignmentSegment(0, 0, Collections.singletonList(assignment)));
+        ListExpression inValues = new ListExpression(0, 0);
+        inValues.getItems().add(new LiteralExpressionSegment(0, 0, 1));
+        inValues.getItems().add(new LiteralExpressionSegment(0, 0, 2));
+        InExpression inExpression = new InExpression(0, 0, new ColumnSegment(0, 0, new IdentifierValue("order_id")), inValues, false);
+        BinaryOperationExpression equalExpression = new BinaryOperationExpression(0, 0, 
+                new ColumnSegment(0, 0, new IdentifierValue("order_id")), new ParameterMarkerExpressionSegment(0, 0, 0), "=", "order_id = ?");
+        result.setWhere(new WhereSegment(0, 0, new BinaryOperationExpression(0, 0, inExpression, equalExpression, "AND", "order_id IN (1, 2) AND order_id = ?")));
+        return result;
+    }
+}
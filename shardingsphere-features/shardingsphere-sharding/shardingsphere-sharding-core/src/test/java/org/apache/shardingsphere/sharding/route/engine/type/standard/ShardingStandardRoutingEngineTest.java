@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -82,6 +84,17 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithRouteCache() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_SIZE.getKey(), "16");
+        ShardingRule shardingRule = createBasedShardingRule();
+        RouteContext expected = new ShardingStandardRoutingEngine("t_order", createShardingConditions("t_order"), new ConfigurationProperties(props)).route(shardingRule);
+        RouteContext actual = new ShardingStandardRoutingEngine("t_order", createShardingConditions("t_order"), new ConfigurationProperties(props)).route(shardingRule);
+        assertThat(actual.getRouteUnits(), is(expected.getRouteUnits()));
+        assertThat(actual.getOriginalDataNodes().iterator().next(), sameInstance(expected.getOriginalDataNodes().iterator().next()));
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertRouteByErrorShardingTableStrategy() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createErrorShardingConditions("t_order"));
@@ -36,6 +36,7 @@ import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
@@ -43,6 +44,7 @@ import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -98,6 +100,24 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableWithSubTable() {
+        assertThat(createMaximumShardingRule().findTableRuleByActualTable("sub_table_2").map(TableRule::getLogicTable).orElse(null), is("SUB_LOGIC_TABLE"));
+    }
+    
+    @Test
+    public void assertGetAllActualTables() {
+        assertThat(createMaximumShardingRule().getAllActualTables(), is(new HashSet<>(Arrays.asList("table_0", "table_1", "table_2", "sub_table_0", "sub_table_1", "sub_table_2"))));
+    }
+    
+    @Test
+    public void assertFindActualTableByCatalog() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.findActualTableByCatalog("ds_1", "logic_table").orElse(null), is("table_0"));
+        assertThat(shardingRule.findActualTableByCatalog("DS_1", "logic_table").orElse(null), is("table_0"));
+        assertFalse(shardingRule.findActualTableByCatalog("ds_2", "logic_table").isPresent());
+    }
+    
     @Test
     public void assertFindLogicTableByActualTable() {
         assertTrue(createMaximumShardingRule().findLogicTableByActualTable("table_0").isPresent());
@@ -120,6 +140,14 @@ public final class ShardingRuleTest {
         assertThat(actual.getLogicTable(), is("Broadcast_Table"));
     }
     
+    @Test
+    public void assertGetShardingStrategyOnceForTableRule() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        TableRule tableRule = shardingRule.getTableRule("Logic_Table");
+        assertThat(shardingRule.getDatabaseShardingStrategy(tableRule), sameInstance(shardingRule.getDatabaseShardingStrategy(tableRule)));
+        assertThat(shardingRule.getTableShardingStrategy(tableRule), sameInstance(shardingRule.getTableShardingStrategy(tableRule)));
+    }
+    
     @Test(expected = ShardingSphereConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statement context cache of prepared statement.
+ * 
+ * <p>
+ * Bound SQL statement context is reused across executions of same prepared statement if it does not depend on parameters
+ * and is not changed by merging (such as group by items added for distinct row), and will be rebound if meta data map is changed or table meta data of schema is refreshed.
+ * It is not thread safe, each prepared statement should hold its own instance.
+ * </p>
+ */
+public final class PreparedSQLStatementContextCache {
+    
+    private SQLStatementContext<?> cachedSQLStatementContext;
+    
+    private SQLStatement cachedSQLStatement;
+    
+    private Map<String, ShardingSphereMetaData> cachedMetaDataMap;
+    
+    private String cachedDefaultSchemaName;
+    
+    private ShardingSphereSchema cachedSchema;
+    
+    private long cachedSchemaVersion;
+    
+    /**
+     * Get SQL statement context.
+     *
+     * @param metaDataMap meta data map
+     * @param parameters SQL parameters
+     * @param sqlStatement SQL statement
+     * @param defaultSchemaName default schema name
+     * @return SQL statement context
+     */
+    public SQLStatementContext<?> getSQLStatementContext(final Map<String, ShardingSphereMetaData> metaDataMap, final List<Object> parameters,
+                                                         final SQLStatement sqlStatement, final String defaultSchemaName) {
+        if (isCacheHit(metaDataMap, sqlStatement, defaultSchemaName)) {
+            return cachedSQLStatementContext;
+        }
+        long defaultSchemaVersion = getSchemaVersion(metaDataMap, defaultSchemaName);
+        SQLStatementContext<?> result = SQLStatementContextFactory.newInstance(metaDataMap, parameters, sqlStatement, defaultSchemaName);
+        if (isParameterIndependent(result)) {
+            cache(result, metaDataMap, sqlStatement, defaultSchemaName, defaultSchemaVersion);
+        } else {
+            cachedSQLStatementContext = null;
+        }
+        return result;
+    }
+    
+    private boolean isCacheHit(final Map<String, ShardingSphereMetaData> metaDataMap, final SQLStatement sqlStatement, final String defaultSchemaName) {
+        return null != cachedSQLStatementContext && cachedSQLStatement == sqlStatement && cachedMetaDataMap == metaDataMap && defaultSchemaName.equals(cachedDefaultSchemaName)
+                && (null == cachedSchema || cachedSchemaVersion == cachedSchema.getVersion());
+    }
+    
+    private long getSchemaVersion(final Map<String, ShardingSphereMetaData> metaDataMap, final String schemaName) {
+        ShardingSphereMetaData metaData = metaDataMap.get(schemaName);
+        return null == metaData || null == metaData.getSchema() ? 0L : metaData.getSchema().getVersion();
+    }
+    
+    private boolean isParameterIndependent(final SQLStatementContext<?> sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return false;
+        }
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+            if (selectStatementContext.getProjectionsContext().isDistinctRow()) {
+                return false;
+            }
+            return !selectStatementContext.getPaginationContext().getOffsetParameterIndex().isPresent() && !selectStatementContext.getPaginationContext().getRowCountParameterIndex().isPresent();
+        }
+        return true;
+    }
+    
+    private void cache(final SQLStatementContext<?> sqlStatementContext, final Map<String, ShardingSphereMetaData> metaDataMap, final SQLStatement sqlStatement,
+                       final String defaultSchemaName, final long defaultSchemaVersion) {
+        cachedSQLStatementContext = sqlStatementContext;
+        cachedSQLStatement = sqlStatement;
+        cachedMetaDataMap = metaDataMap;
+        cachedDefaultSchemaName = defaultSchemaName;
+        String schemaName = getSchemaName(sqlStatementContext, defaultSchemaName);
+        ShardingSphereMetaData metaData = metaDataMap.get(schemaName);
+        cachedSchema = null == metaData ? null : metaData.getSchema();
+        cachedSchemaVersion = defaultSchemaName.equals(schemaName) ? defaultSchemaVersion : getSchemaVersion(metaDataMap, schemaName);
+    }
+    
+    private String getSchemaName(final SQLStatementContext<?> sqlStatementContext, final String defaultSchemaName) {
+        return sqlStatementContext instanceof TableAvailable ? ((TableAvailable) sqlStatementContext).getTablesContext().getSchemaName().orElse(defaultSchemaName) : defaultSchemaName;
+    }
+}
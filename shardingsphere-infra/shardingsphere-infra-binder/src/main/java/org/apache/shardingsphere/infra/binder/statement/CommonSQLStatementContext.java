@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.statement;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -29,6 +30,9 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.sql92.SQL92Sta
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.sqlserver.SQLServerStatement;
 
 import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Common SQL statement context.
@@ -44,6 +48,9 @@ public class CommonSQLStatementContext<T extends SQLStatement> implements SQLSta
     
     private final DatabaseType databaseType;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<?>, Object> attachments = new ConcurrentHashMap<>();
+    
     public CommonSQLStatementContext(final T sqlStatement) {
         this.sqlStatement = sqlStatement;
         tablesContext = new TablesContext(Collections.emptyList());
@@ -68,4 +75,24 @@ public class CommonSQLStatementContext<T extends SQLStatement> implements SQLSta
         }
         throw new UnsupportedOperationException(sqlStatement.getClass().getName());
     }
+    
+    /**
+     * Find attachment, which is derived from this SQL statement context and kept as long as the context is reused.
+     *
+     * @param type type of attachment
+     * @param <A> type of attachment
+     * @return attachment
+     */
+    public <A> Optional<A> findAttachment(final Class<A> type) {
+        return Optional.ofNullable(type.cast(attachments.get(type)));
+    }
+    
+    /**
+     * Put attachment, which replaces attachment of same type.
+     *
+     * @param attachment attachment
+     */
+    public void putAttachment(final Object attachment) {
+        attachments.put(attachment.getClass(), attachment);
+    }
 }
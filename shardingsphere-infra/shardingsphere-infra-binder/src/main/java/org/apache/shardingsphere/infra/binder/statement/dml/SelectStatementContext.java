@@ -55,6 +55,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SubqueryExtractUtil;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -222,6 +223,45 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         return !groupByContext.getItems().isEmpty() && groupByContext.getItems().equals(orderByContext.getItems());
     }
     
+    /**
+     * Judge whether group by and explicit order by items are different.
+     * 
+     * <p>
+     * Query results can be sorted by group by items instead of order by items in this case, so that groups are merged in stream and then sorted by order by items.
+     * Items are compared by segments instead of indexes, because indexes are only set when merging.
+     * </p>
+     *
+     * @return group by and explicit order by items are different or not
+     */
+    public boolean isDifferentGroupByAndOrderByItems() {
+        if (groupByContext.getItems().isEmpty() || orderByContext.isGenerated()) {
+            return false;
+        }
+        if (groupByContext.getItems().size() != orderByContext.getItems().size()) {
+            return true;
+        }
+        Iterator<OrderByItem> orderByItems = orderByContext.getItems().iterator();
+        for (OrderByItem each : groupByContext.getItems()) {
+            if (!isSameOrderByItemSegment(each.getSegment(), orderByItems.next().getSegment())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSameOrderByItemSegment(final OrderByItemSegment segment, final OrderByItemSegment otherSegment) {
+        if (segment.getOrderDirection() != otherSegment.getOrderDirection()) {
+            return false;
+        }
+        if (segment instanceof IndexOrderByItemSegment && otherSegment instanceof IndexOrderByItemSegment) {
+            return ((IndexOrderByItemSegment) segment).getColumnIndex() == ((IndexOrderByItemSegment) otherSegment).getColumnIndex();
+        }
+        if (segment instanceof TextOrderByItemSegment && otherSegment instanceof TextOrderByItemSegment) {
+            return getOrderItemText((TextOrderByItemSegment) segment).equalsIgnoreCase(getOrderItemText((TextOrderByItemSegment) otherSegment));
+        }
+        return false;
+    }
+    
     @Override
     public Collection<SimpleTableSegment> getAllTables() {
         return tablesContext.getOriginalTables();
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PreparedSQLStatementContextCacheTest {
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema();
+    
+    private Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getSchema()).thenReturn(schema);
+        metaDataMap = Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextWithParameterIndependentStatement() {
+        PreparedSQLStatementContextCache cache = new PreparedSQLStatementContextCache();
+        MySQLSelectStatement selectStatement = createSelectStatement();
+        SQLStatementContext<?> actual = cache.getSQLStatementContext(metaDataMap, Collections.singletonList(1), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(cache.getSQLStatementContext(metaDataMap, Collections.singletonList(2), selectStatement, DefaultSchema.LOGIC_NAME), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextWithParameterDependentStatement() {
+        PreparedSQLStatementContextCache cache = new PreparedSQLStatementContextCache();
+        MySQLSelectStatement selectStatement = createSelectStatement();
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+        SQLStatementContext<?> actual = cache.getSQLStatementContext(metaDataMap, Collections.singletonList(1), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(cache.getSQLStatementContext(metaDataMap, Collections.singletonList(2), selectStatement, DefaultSchema.LOGIC_NAME), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextWithDistinctRowStatement() {
+        PreparedSQLStatementContextCache cache = new PreparedSQLStatementContextCache();
+        MySQLSelectStatement selectStatement = createSelectStatement();
+        selectStatement.getProjections().setDistinctRow(true);
+        SQLStatementContext<?> actual = cache.getSQLStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(cache.getSQLStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterSchemaChanged() {
+        PreparedSQLStatementContextCache cache = new PreparedSQLStatementContextCache();
+        MySQLSelectStatement selectStatement = createSelectStatement();
+        SQLStatementContext<?> actual = cache.getSQLStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+        schema.put("tbl", mock(TableMetaData.class));
+        assertThat(cache.getSQLStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME), not(sameInstance(actual)));
+    }
+    
+    private MySQLSelectStatement createSelectStatement() {
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(new ProjectionsSegment(0, 0));
+        result.setFrom(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("tbl"))));
+        return result;
+    }
+}
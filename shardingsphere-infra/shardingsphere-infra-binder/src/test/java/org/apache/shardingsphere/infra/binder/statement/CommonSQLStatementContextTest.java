@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.statement;
+
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class CommonSQLStatementContextTest {
+    
+    @Test
+    public void assertFindAttachment() {
+        CommonSQLStatementContext<MySQLSelectStatement> sqlStatementContext = new CommonSQLStatementContext<>(new MySQLSelectStatement());
+        assertFalse(sqlStatementContext.findAttachment(String.class).isPresent());
+        sqlStatementContext.putAttachment("foo");
+        assertThat(sqlStatementContext.findAttachment(String.class).orElse(null), is("foo"));
+        sqlStatementContext.putAttachment("bar");
+        assertThat(sqlStatementContext.findAttachment(String.class).orElse(null), is("bar"));
+        assertFalse(sqlStatementContext.findAttachment(Integer.class).isPresent());
+    }
+}
@@ -248,6 +248,31 @@ public final class SelectStatementContextTest {
         assertTrue(selectStatementContext.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertIsDifferentGroupByAndOrderByItems() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(createColumnOrderByItemSegment("amount", OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(createColumnOrderByItemSegment("account_id", OrderDirection.ASC))));
+        assertTrue(createSelectStatementContext(selectStatement).isDifferentGroupByAndOrderByItems());
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(createColumnOrderByItemSegment("amount", OrderDirection.DESC))));
+        assertTrue(createSelectStatementContext(selectStatement).isDifferentGroupByAndOrderByItems());
+    }
+    
+    @Test
+    public void assertIsNotDifferentGroupByAndOrderByItems() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(createColumnOrderByItemSegment("amount", OrderDirection.ASC))));
+        assertFalse(createSelectStatementContext(selectStatement).isDifferentGroupByAndOrderByItems());
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(createColumnOrderByItemSegment("AMOUNT", OrderDirection.ASC))));
+        assertFalse(createSelectStatementContext(selectStatement).isDifferentGroupByAndOrderByItems());
+    }
+    
+    private ColumnOrderByItemSegment createColumnOrderByItemSegment(final String columnName, final OrderDirection orderDirection) {
+        return new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue(columnName)), orderDirection, OrderDirection.ASC);
+    }
+    
     private SelectStatementContext createSelectStatementContext(final SelectStatement selectStatement) {
         return new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, mock(ShardingSphereMetaData.class)), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
     }
@@ -43,6 +43,18 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class),
     
+    /**
+     * Available options of worker group thread type to execute SQL: PLATFORM(default), VIRTUAL. The VIRTUAL option requires JDK 21 or later,
+     * it creates one virtual thread for each execution group and ignores kernel-executor-size.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", "PLATFORM", String.class),
+    
+    /**
+     * The deadline in milliseconds for each execution group to execute SQL, statements of execution group will be cancelled when exceeded.
+     * The default value is 0, which means no deadline.
+     */
+    KERNEL_EXECUTION_GROUP_TIMEOUT_MILLISECONDS("kernel-execution-group-timeout-milliseconds", String.valueOf(0L), long.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -104,6 +116,56 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_COMMENT_PARSE_ENABLED("sql-comment-parse-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Whether share parse tree among non-prepared SQLs which are different only in literals.
+     */
+    SQL_LITERAL_NORMALIZED_PARSE_ENABLED("sql-literal-normalized-parse-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max group size kept in memory when merging group by or distinct results in memory. Groups beyond it are spilled to temporary files.
+     * The default value is 0, which means all groups are kept in memory.
+     */
+    MEMORY_MERGE_MAX_GROUP_SIZE("memory-merge-max-group-size", String.valueOf(0), int.class),
+    
+    /**
+     * Directory of temporary files which groups beyond max group size are spilled to when merging.
+     * The default value is empty, which means the directory of system property {@code java.io.tmpdir}.
+     */
+    MEMORY_MERGE_SPILL_DIRECTORY("memory-merge-spill-directory", "", String.class),
+    
+    /**
+     * Whether estimate count distinct results with HyperLogLog sketches when merging, instead of keeping every distinct value in memory.
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate-distinct-count-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether merge group by results in stream when group by and order by items are different.
+     * If enabled, SQLs of data nodes are ordered by group by items, and only merged groups are sorted by order by items in memory.
+     */
+    GROUP_BY_STREAM_MERGE_ENABLED("group-by-stream-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Min size of query results to aggregate group by results in memory with multiple threads.
+     * Query results are partitioned and aggregated concurrently with kernel executor, then partial aggregations are combined.
+     * At most half of threads of a bounded kernel executor are taken, so that SQLs of other queries can still be executed.
+     * 0 means always aggregate in the merging thread.
+     */
+    PARALLEL_MERGE_MIN_QUERY_RESULTS("parallel-merge-min-query-results", String.valueOf(0), int.class),
+    
+    /**
+     * Max size of cached sharding route results, which are keyed by logic table and sharding condition values.
+     * Cached results are dropped when sharding rule is altered. Only enable it if sharding algorithms are deterministic.
+     * The default value is 0, which means sharding route results are not cached.
+     */
+    SHARDING_ROUTE_CACHE_SIZE("sharding-route-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether rewrite IN list of sharding column for each route unit, only values routed to the route unit are kept.
+     * It only applies to select statement of single sharding table, backend SQL may be different for each execution if enabled.
+     * The default value is false.
+     */
+    SHARDING_IN_VALUES_SPLIT_ENABLED("sharding-in-values-split-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -113,7 +175,13 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      * Available options of proxy backend executor suitable: OLAP(default), OLTP. The OLTP option may reduce time cost of writing packets to client, but it may increase the latency of SQL execution
      * if client connections are more than proxy-frontend-netty-executor-size, especially executing slow SQL.
      */
-    PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", "OLAP", String.class);
+    PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", "OLAP", String.class),
+    
+    /**
+     * Proxy backend connection idle milliseconds. Backend connections are kept by frontend session for reuse within the idle window after command finished.
+     * The default value is 0, which means backend connections are released after each command out of transaction.
+     */
+    PROXY_BACKEND_CONNECTION_IDLE_MILLISECONDS("proxy-backend-connection-idle-milliseconds", String.valueOf(0L), long.class);
     
     private final String key;
     
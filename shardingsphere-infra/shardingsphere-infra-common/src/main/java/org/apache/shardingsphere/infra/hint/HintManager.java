@@ -25,6 +25,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * The manager that use hint to inject sharding key directly through {@code ThreadLocal}.
@@ -42,6 +43,10 @@ public final class HintManager implements AutoCloseable {
     
     private boolean writeRouteOnly;
     
+    private Integer memoryMergeMaxGroupSize;
+    
+    private boolean approximateDistinctCount;
+    
     /**
      * Get a new instance for {@code HintManager}.
      *
@@ -161,6 +166,41 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().writeRouteOnly;
     }
     
+    /**
+     * Set max group size kept in memory when merging group by or distinct results in memory for current query.
+     *
+     * @param memoryMergeMaxGroupSize max group size kept in memory, 0 means all groups are kept in memory
+     */
+    public void setMemoryMergeMaxGroupSize(final int memoryMergeMaxGroupSize) {
+        Preconditions.checkArgument(memoryMergeMaxGroupSize >= 0, "Memory merge max group size can not be negative.");
+        this.memoryMergeMaxGroupSize = memoryMergeMaxGroupSize;
+    }
+    
+    /**
+     * Get max group size kept in memory when merging group by or distinct results in memory.
+     *
+     * @return max group size kept in memory
+     */
+    public static Optional<Integer> getMemoryMergeMaxGroupSize() {
+        return null == HINT_MANAGER_HOLDER.get() ? Optional.empty() : Optional.ofNullable(HINT_MANAGER_HOLDER.get().memoryMergeMaxGroupSize);
+    }
+    
+    /**
+     * Set count distinct results to be estimated approximately when merging for current query.
+     */
+    public void setApproximateDistinctCount() {
+        approximateDistinctCount = true;
+    }
+    
+    /**
+     * Judge whether estimate count distinct results approximately or not.
+     *
+     * @return estimate count distinct results approximately or not
+     */
+    public static boolean isApproximateDistinctCount() {
+        return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().approximateDistinctCount;
+    }
+    
     /**
      * Clear thread local for hint manager.
      */
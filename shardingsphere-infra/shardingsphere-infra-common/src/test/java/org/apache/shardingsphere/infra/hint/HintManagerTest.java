@@ -206,4 +206,25 @@ public final class HintManagerTest {
         hintManager.close();
         assertFalse(HintManager.isInstantiated());
     }
+    
+    @Test
+    public void assertSetMemoryMergeMaxGroupSize() {
+        assertFalse(HintManager.getMemoryMergeMaxGroupSize().isPresent());
+        try (HintManager hintManager = HintManager.getInstance()) {
+            assertFalse(HintManager.getMemoryMergeMaxGroupSize().isPresent());
+            hintManager.setMemoryMergeMaxGroupSize(100);
+            assertThat(HintManager.getMemoryMergeMaxGroupSize().get(), is(100));
+        }
+        assertFalse(HintManager.getMemoryMergeMaxGroupSize().isPresent());
+    }
+    
+    @Test
+    public void assertSetApproximateDistinctCount() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            assertFalse(HintManager.isApproximateDistinctCount());
+            hintManager.setApproximateDistinctCount();
+            assertTrue(HintManager.isApproximateDistinctCount());
+        }
+        assertFalse(HintManager.isApproximateDistinctCount());
+    }
 }
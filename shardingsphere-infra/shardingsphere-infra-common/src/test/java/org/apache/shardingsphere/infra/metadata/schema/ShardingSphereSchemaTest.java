@@ -52,6 +52,16 @@ public final class ShardingSphereSchemaTest {
         assertThat(actual.get("tbl"), is(tableMetaData));
     }
     
+    @Test
+    public void assertGetVersion() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        assertThat(actual.getVersion(), is(0L));
+        actual.put("tbl", mock(TableMetaData.class));
+        assertThat(actual.getVersion(), is(1L));
+        actual.remove("tbl");
+        assertThat(actual.getVersion(), is(2L));
+    }
+    
     @Test
     public void assertRemove() {
         ShardingSphereSchema actual = new ShardingSphereSchema(ImmutableMap.of("tbl", mock(TableMetaData.class)));
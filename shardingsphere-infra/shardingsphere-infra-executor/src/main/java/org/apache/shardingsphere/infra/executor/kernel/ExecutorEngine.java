@@ -18,15 +18,20 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -34,17 +39,39 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor engine.
  */
 @Getter
+@Slf4j
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final ScheduledExecutorService DEADLINE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Execution-Group-Deadline"));
+    
+    private static final ExecutorService CANCEL_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("Execution-Group-Cancel-%d"));
+    
     private final ExecutorServiceManager executorServiceManager;
     
+    private final long executionGroupTimeoutMilliseconds;
+    
     public ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, "PLATFORM");
+    }
+    
+    public ExecutorEngine(final int executorSize, final String executorType) {
+        this(executorSize, executorType, 0L);
+    }
+    
+    public ExecutorEngine(final int executorSize, final String executorType, final long executionGroupTimeoutMilliseconds) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, "%d", executorType);
+        this.executionGroupTimeoutMilliseconds = executionGroupTimeoutMilliseconds;
     }
     
     /**
@@ -82,6 +109,39 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute and pull results of each execution group in completion order.
+     * 
+     * <p>Different with {@code execute}, this method returns without waiting for execution groups,
+     * results of each execution group can be pulled as soon as it finished, failure is thrown when pulling.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execution group result iterator
+     */
+    public <I, O> ExecutionGroupResultIterator<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) {
+        Collection<ListenableFutureTask<Collection<O>>> trunkTasks = new LinkedList<>();
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        if (!executionGroups.hasNext()) {
+            return new ExecutionGroupResultIterator<>(trunkTasks, Collections.emptyList());
+        }
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        trunkTasks.add(ListenableFutureTask.create(() -> syncExecute(firstInputs, null == firstCallback ? callback : firstCallback)));
+        if (!serial) {
+            return new ExecutionGroupResultIterator<>(trunkTasks, asyncExecute(executionGroups, callback));
+        }
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            trunkTasks.add(ListenableFutureTask.create(() -> syncExecute(each, callback)));
+        }
+        return new ExecutionGroupResultIterator<>(trunkTasks, Collections.emptyList());
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -98,7 +158,7 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
+        return executeWithDeadline(executionGroup, callback, true, ExecutorDataMap.getValue());
     }
     
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
@@ -111,7 +171,47 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        return executorServiceManager.getExecutorService().submit(() -> executeWithDeadline(executionGroup, callback, false, dataMap));
+    }
+    
+    private <I, O> Collection<O> executeWithDeadline(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback,
+                                                     final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        if (executionGroupTimeoutMilliseconds <= 0) {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread, dataMap);
+        }
+        AtomicBoolean finished = new AtomicBoolean();
+        ScheduledFuture<?> deadline = DEADLINE_EXECUTOR.schedule(() -> triggerCancel(executionGroup, callback, finished), executionGroupTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+        Collection<O> result;
+        try {
+            result = callback.execute(executionGroup.getInputs(), isTrunkThread, dataMap);
+        } catch (final SQLException ex) {
+            checkDeadline(finished, ex);
+            throw ex;
+        } finally {
+            deadline.cancel(false);
+        }
+        checkDeadline(finished, null);
+        return result;
+    }
+    
+    private <I, O> void triggerCancel(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final AtomicBoolean finished) {
+        if (finished.compareAndSet(false, true)) {
+            CANCEL_EXECUTOR.execute(() -> cancel(executionGroup, callback));
+        }
+    }
+    
+    private <I, O> void cancel(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+        try {
+            callback.cancel(executionGroup.getInputs());
+        } catch (final SQLException ex) {
+            log.warn("Cancel execution group which exceeded deadline of {} milliseconds failed.", executionGroupTimeoutMilliseconds, ex);
+        }
+    }
+    
+    private void checkDeadline(final AtomicBoolean finished, final SQLException cause) throws SQLTimeoutException {
+        if (!finished.compareAndSet(false, true)) {
+            throw new SQLTimeoutException(String.format("Execution group exceeded deadline of %s milliseconds and has been cancelled.", executionGroupTimeoutMilliseconds), cause);
+        }
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
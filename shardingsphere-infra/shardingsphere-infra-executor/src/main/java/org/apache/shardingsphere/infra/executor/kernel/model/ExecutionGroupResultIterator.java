@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Execution group result iterator.
+ * 
+ * <p>Results of each execution group are pulled in completion order instead of submission order,
+ * so slow execution group will not delay results which are already available from other execution groups.
+ * Trunk tasks run in the calling thread only when no result of other execution groups is available.</p>
+ *
+ * @param <O> type of output value
+ */
+public final class ExecutionGroupResultIterator<O> implements AutoCloseable {
+    
+    private final BlockingQueue<Future<Collection<O>>> completedFutures = new LinkedBlockingQueue<>();
+    
+    private final Queue<ListenableFutureTask<Collection<O>>> trunkTasks;
+    
+    private final Collection<ListenableFuture<Collection<O>>> asyncFutures;
+    
+    private int remainingGroupCount;
+    
+    public ExecutionGroupResultIterator(final Collection<ListenableFutureTask<Collection<O>>> trunkTasks, final Collection<ListenableFuture<Collection<O>>> asyncFutures) {
+        this.trunkTasks = new LinkedList<>(trunkTasks);
+        this.asyncFutures = asyncFutures;
+        remainingGroupCount = trunkTasks.size() + asyncFutures.size();
+        trunkTasks.forEach(this::addCompletedListener);
+        asyncFutures.forEach(this::addCompletedListener);
+    }
+    
+    private void addCompletedListener(final ListenableFuture<Collection<O>> future) {
+        future.addListener(() -> completedFutures.add(future), MoreExecutors.directExecutor());
+    }
+    
+    /**
+     * Judge whether results of any execution group are not pulled yet.
+     * 
+     * @return has next or not
+     */
+    public boolean hasNext() {
+        return remainingGroupCount > 0;
+    }
+    
+    /**
+     * Get results of next completed execution group, block until any execution group completed.
+     * 
+     * @return results of next completed execution group
+     * @throws SQLException throw if execute failure
+     */
+    public Collection<O> next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (completedFutures.isEmpty() && !trunkTasks.isEmpty()) {
+            trunkTasks.poll().run();
+        }
+        remainingGroupCount--;
+        try {
+            return completedFutures.take().get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Get results of all remaining execution groups.
+     * 
+     * @return results of all remaining execution groups in completion order
+     * @throws SQLException throw if execute failure
+     */
+    public List<O> nextAll() throws SQLException {
+        List<O> result = new LinkedList<>();
+        while (hasNext()) {
+            result.addAll(next());
+        }
+        return result;
+    }
+    
+    /**
+     * Skip execution groups which are not started yet, execution groups already running are left to finish.
+     */
+    @Override
+    public void close() {
+        trunkTasks.clear();
+        asyncFutures.forEach(each -> each.cancel(false));
+        remainingGroupCount = 0;
+    }
+}
@@ -39,4 +39,13 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, Map<String, Object> dataMap) throws SQLException;
+    
+    /**
+     * Cancel execution of inputs, invoked from another thread when execution group exceeds its deadline.
+     * 
+     * @param inputs input values
+     * @throws SQLException throw when cancel failure
+     */
+    default void cancel(Collection<I> inputs) throws SQLException {
+    }
 }
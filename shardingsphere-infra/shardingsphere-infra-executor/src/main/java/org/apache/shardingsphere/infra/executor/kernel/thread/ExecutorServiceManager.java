@@ -20,10 +20,13 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.spi.ExecutorServiceFactory;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.typed.TypedSPIRegistry;
 
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,22 +37,34 @@ public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final String DEFAULT_EXECUTOR_TYPE = "PLATFORM";
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    static {
+        ShardingSphereServiceLoader.register(ExecutorServiceFactory.class);
+    }
+    
     private final ListeningExecutorService executorService;
     
+    private final int executorSize;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, DEFAULT_EXECUTOR_TYPE);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final String executorType) {
+        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat, executorType));
+        this.executorSize = executorSize;
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final String executorType) {
+        return TypedSPIRegistry.getRegisteredService(ExecutorServiceFactory.class, executorType, new Properties()).newInstance(executorSize, nameFormat);
     }
     
     /**
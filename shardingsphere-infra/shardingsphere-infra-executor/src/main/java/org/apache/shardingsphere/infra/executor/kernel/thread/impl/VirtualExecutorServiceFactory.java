@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.impl;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.spi.ExecutorServiceFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual executor service factory, create one virtual thread per task.
+ * 
+ * <p>Virtual threads are only available without preview on JDK 21 or later, so the API is resolved by reflection to keep compatible with lower JDK.
+ * The executor size is ignored because virtual threads are not pooled.</p>
+ */
+public final class VirtualExecutorServiceFactory implements ExecutorServiceFactory {
+    
+    private static final String NAME_PREFIX = "ShardingSphere-";
+    
+    private static final String NAME_NUMBER_PLACEHOLDER = "%d";
+    
+    private static final int MIN_FEATURE_VERSION = 21;
+    
+    @Override
+    public ExecutorService newInstance(final int executorSize, final String nameFormat) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(String.format("Virtual thread is not supported by current JVM `%s`", System.getProperty("java.version")));
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, createThreadFactory(nameFormat));
+        } catch (final ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+    
+    private ThreadFactory createThreadFactory(final String nameFormat) throws ReflectiveOperationException {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, getNamePrefix(nameFormat), 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    
+    static String getNamePrefix(final String nameFormat) {
+        int placeholderIndex = nameFormat.indexOf(NAME_NUMBER_PLACEHOLDER);
+        return NAME_PREFIX + (placeholderIndex < 0 ? nameFormat + "-" : nameFormat.substring(0, placeholderIndex));
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return getFeatureVersion(System.getProperty("java.specification.version")) >= MIN_FEATURE_VERSION;
+    }
+    
+    static int getFeatureVersion(final String specificationVersion) {
+        String featureVersion = specificationVersion.startsWith("1.") ? specificationVersion.substring(2) : specificationVersion;
+        int dotIndex = featureVersion.indexOf('.');
+        try {
+            return Integer.parseInt(dotIndex < 0 ? featureVersion : featureVersion.substring(0, dotIndex));
+        } catch (final NumberFormatException ex) {
+            return 0;
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL";
+    }
+}
@@ -100,6 +100,13 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) throws SQLException {
+        for (JDBCExecutionUnit each : executionUnits) {
+            each.getStorageResource().cancel();
+        }
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
         String url = metaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
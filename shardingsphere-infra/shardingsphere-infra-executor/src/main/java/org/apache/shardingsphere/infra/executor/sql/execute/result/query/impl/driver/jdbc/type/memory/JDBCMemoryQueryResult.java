@@ -19,16 +19,45 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
 /**
  * JDBC query result for memory loading.
+ * 
+ * <p>Rows are kept by columns, values of numeric and boolean columns are kept as primitives.</p>
  */
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
+    
     public JDBCMemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet).iterator());
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
+        columns = JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet);
+        rowCount = 0 == columns.length ? 0 : columns[0].getSize();
+    }
+    
+    @Override
+    public boolean next() {
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
+        }
+        return currentRowIndex < rowCount;
+    }
+    
+    @Override
+    protected Object getCurrentValue(final int columnIndex) {
+        return columns[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    protected boolean isCurrentRowPresent() {
+        return currentRowIndex >= 0 && currentRowIndex < rowCount;
     }
 }
@@ -19,17 +19,19 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.BooleanMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.StringMemoryQueryResultColumn;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * JDBC rows loader.
@@ -38,56 +40,97 @@ import java.util.List;
 public final class JDBCRowsLoader {
     
     /**
-     * Load rows.
+     * Load rows into columns.
      * 
      * @param columnCount column count
      * @param resultSet result set of JDBC
-     * @return Query result data rows
+     * @return query result columns
      * @throws SQLException SQL exception
      */
-    public static Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public static MemoryQueryResultColumn[] load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int[] columnTypes = new int[columnCount];
+        boolean[] signed = new boolean[columnCount];
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnTypes[i] = metaData.getColumnType(i + 1);
+            signed[i] = (Types.INTEGER == columnTypes[i] || Types.BIGINT == columnTypes[i]) && metaData.isSigned(i + 1);
+            result[i] = createColumn(columnTypes[i], signed[i]);
+        }
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            for (int i = 0; i < columnCount; i++) {
+                loadValue(resultSet, i + 1, columnTypes[i], signed[i], result[i]);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
         }
         return result;
     }
     
-    @SuppressWarnings("ReturnOfNull")
-    private static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private static MemoryQueryResultColumn createColumn(final int columnType, final boolean signed) {
+        switch (columnType) {
             case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
+                return new BooleanMemoryQueryResultColumn();
             case Types.TINYINT:
             case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
+                return new IntMemoryQueryResultColumn();
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
+                return signed ? new IntMemoryQueryResultColumn() : new LongMemoryQueryResultColumn();
+            case Types.BIGINT:
+                return signed ? new LongMemoryQueryResultColumn() : new ObjectMemoryQueryResultColumn();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn();
+        }
+    }
+    
+    private static void loadValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed, final MemoryQueryResultColumn column) throws SQLException {
+        switch (columnType) {
+            case Types.BOOLEAN:
+                ((BooleanMemoryQueryResultColumn) column).add(resultSet.getBoolean(columnIndex), resultSet.wasNull());
+                return;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                ((IntMemoryQueryResultColumn) column).add(resultSet.getInt(columnIndex), resultSet.wasNull());
+                return;
+            case Types.INTEGER:
+                if (signed) {
+                    ((IntMemoryQueryResultColumn) column).add(resultSet.getInt(columnIndex), resultSet.wasNull());
+                } else {
+                    ((LongMemoryQueryResultColumn) column).add(resultSet.getLong(columnIndex), resultSet.wasNull());
                 }
-                return resultSet.getLong(columnIndex);
+                return;
             case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
+                if (signed) {
+                    ((LongMemoryQueryResultColumn) column).add(resultSet.getLong(columnIndex), resultSet.wasNull());
+                } else {
+                    BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
+                    ((ObjectMemoryQueryResultColumn) column).add(null == bigDecimal ? null : bigDecimal.toBigInteger(), resultSet.wasNull());
                 }
-                BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
-                return bigDecimal == null ? null : bigDecimal.toBigInteger();
-            case Types.NUMERIC:
-            case Types.DECIMAL:
-                return resultSet.getBigDecimal(columnIndex);
+                return;
             case Types.FLOAT:
             case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
+                ((DoubleMemoryQueryResultColumn) column).add(resultSet.getDouble(columnIndex), resultSet.wasNull());
+                return;
             case Types.CHAR:
             case Types.VARCHAR:
             case Types.LONGVARCHAR:
-                return resultSet.getString(columnIndex);
+                ((StringMemoryQueryResultColumn) column).add(resultSet.getString(columnIndex), resultSet.wasNull());
+                return;
+            default:
+                ((ObjectMemoryQueryResultColumn) column).add(loadObjectValue(resultSet, columnIndex, columnType), resultSet.wasNull());
+        }
+    }
+    
+    private static Object loadObjectValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return resultSet.getBigDecimal(columnIndex);
             case Types.DATE:
                 return resultSet.getDate(columnIndex);
             case Types.TIME:
@@ -23,7 +23,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -31,7 +30,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.util.Calendar;
-import java.util.Iterator;
 
 /**
  * Abstract memory query result.
@@ -42,33 +40,19 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private final QueryResultMetaData metaData;
     
-    private final Iterator<MemoryQueryResultDataRow> rows;
-    
-    private MemoryQueryResultDataRow currentRow;
-    
-    @Override
-    public final boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
-            return true;
-        }
-        currentRow = null;
-        return false;
-    }
-    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getValue().get(columnIndex - 1);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue().get(columnIndex - 1);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getValue().get(columnIndex - 1));
+        return getInputStream(getCurrentValue(columnIndex));
     }
     
     @SneakyThrows(IOException.class)
@@ -83,10 +67,14 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     @Override
     public final boolean wasNull() {
-        return null == currentRow;
+        return !isCurrentRowPresent();
     }
     
     @Override
     public final void close() {
     }
+    
+    protected abstract Object getCurrentValue(int columnIndex);
+    
+    protected abstract boolean isCurrentRowPresent();
 }
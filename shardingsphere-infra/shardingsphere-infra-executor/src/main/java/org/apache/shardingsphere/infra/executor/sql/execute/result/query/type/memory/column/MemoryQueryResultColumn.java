@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Memory query result column, which keeps values of one column for all rows.
+ */
+public abstract class MemoryQueryResultColumn {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nullValues = new BitSet();
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value, null if value of the row is null
+     */
+    public final Object getValue(final int rowIndex) {
+        return nullValues.get(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected final int nextRowIndex(final boolean isNull) {
+        if (isNull) {
+            nullValues.set(size);
+        }
+        return size++;
+    }
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Object memory query result column.
+ */
+public class ObjectMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    
+    /**
+     * Add value.
+     * 
+     * @param value value
+     * @param isNull whether value is null
+     */
+    public void add(final Object value, final boolean isNull) {
+        int rowIndex = nextRowIndex(isNull || null == value);
+        if (rowIndex == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+        }
+        values[rowIndex] = isNull ? null : value;
+    }
+    
+    @Override
+    protected final Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * String memory query result column.
+ * 
+ * <p>Equal strings share one instance through a dictionary, until there are more than {@code MAX_DICTIONARY_SIZE} different strings.</p>
+ */
+public final class StringMemoryQueryResultColumn extends ObjectMemoryQueryResultColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 4096;
+    
+    private final Map<String, String> dictionary = new HashMap<>();
+    
+    /**
+     * Add value.
+     * 
+     * @param value value
+     * @param isNull whether value is null
+     */
+    public void add(final String value, final boolean isNull) {
+        super.add(isNull || null == value ? null : getSharedValue(value), isNull);
+    }
+    
+    private String getSharedValue(final String value) {
+        String result = dictionary.get(value);
+        if (null != result) {
+            return result;
+        }
+        if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(value, value);
+        }
+        return value;
+    }
+}
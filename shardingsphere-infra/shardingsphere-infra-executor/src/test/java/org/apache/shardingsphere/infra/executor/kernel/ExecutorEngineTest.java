@@ -20,17 +20,26 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -96,6 +105,98 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test(expected = SQLTimeoutException.class)
+    public void assertExecuteWithExceededDeadline() throws SQLException {
+        ExecutorEngine executorEngine = new ExecutorEngine(1, "PLATFORM", 10L);
+        try {
+            executorEngine.execute(executionGroupContext, createCancellableCallback(new CountDownLatch(1)));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithinDeadline() throws SQLException, InterruptedException {
+        ExecutorEngine executorEngine = new ExecutorEngine(1, "PLATFORM", 5000L);
+        try {
+            List<String> actual = executorEngine.execute(executionGroupContext, callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertExecuteWithExceededDeadlineWhenOtherCancelBlocked() throws SQLException, InterruptedException {
+        ExecutionGroupContext<Object> singleGroupContext = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(new Object()))));
+        CountDownLatch blockedCancelStartedLatch = new CountDownLatch(1);
+        CountDownLatch blockedCancelReleaseLatch = new CountDownLatch(1);
+        ExecutorEngine blockedExecutorEngine = new ExecutorEngine(1, "PLATFORM", 10L);
+        ExecutorEngine executorEngine = new ExecutorEngine(1, "PLATFORM", 10L);
+        Thread blockedThread = new Thread(() -> executeQuietly(blockedExecutorEngine, singleGroupContext, createBlockedCancelCallback(blockedCancelStartedLatch, blockedCancelReleaseLatch)));
+        blockedThread.start();
+        try {
+            assertTrue(blockedCancelStartedLatch.await(5, TimeUnit.SECONDS));
+            executorEngine.execute(singleGroupContext, createCancellableCallback(new CountDownLatch(1)));
+        } finally {
+            blockedCancelReleaseLatch.countDown();
+            blockedThread.join();
+            blockedExecutorEngine.close();
+            executorEngine.close();
+        }
+    }
+    
+    private void executeQuietly(final ExecutorEngine executorEngine, final ExecutionGroupContext<Object> executionGroupContext, final ExecutorCallback<Object, String> callback) {
+        try {
+            executorEngine.execute(executionGroupContext, callback);
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private ExecutorCallback<Object, String> createBlockedCancelCallback(final CountDownLatch cancelStartedLatch, final CountDownLatch cancelReleaseLatch) {
+        CountDownLatch executeLatch = new CountDownLatch(1);
+        return new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) {
+                awaitQuietly(executeLatch);
+                return Collections.singletonList("cancelled");
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                cancelStartedLatch.countDown();
+                awaitQuietly(cancelReleaseLatch);
+                executeLatch.countDown();
+            }
+        };
+    }
+    
+    private ExecutorCallback<Object, String> createCancellableCallback(final CountDownLatch cancelLatch) {
+        return new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) {
+                awaitQuietly(cancelLatch);
+                return Collections.singletonList("cancelled");
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                cancelLatch.countDown();
+            }
+        };
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @Test
     public void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -103,4 +204,58 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertExecuteInCompletionOrder() throws SQLException {
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        ExecutionGroupContext<Object> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList("trunk")), new ExecutionGroup<>(Collections.singletonList("slow")), new ExecutionGroup<>(Collections.singletonList("fast"))));
+        try (ExecutionGroupResultIterator<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, null, createBlockedCallback("slow", slowLatch), false)) {
+            Collection<String> completedResults = new HashSet<>(actual.next());
+            completedResults.addAll(actual.next());
+            assertThat(completedResults, is(new HashSet<>(Arrays.asList("trunk", "fast"))));
+            assertTrue(actual.hasNext());
+            slowLatch.countDown();
+            assertThat(actual.next(), is(Collections.singletonList("slow")));
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test
+    public void assertSerialExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        try (ExecutionGroupResultIterator<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, true)) {
+            assertThat(actual.nextAll().size(), is(4));
+            latch.await();
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteInCompletionOrderWithFailure() throws SQLException {
+        try (ExecutionGroupResultIterator<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, callback, (inputs, isTrunkThread, dataMap) -> {
+            throw new SQLException("failed");
+        }, false)) {
+            actual.nextAll();
+        }
+    }
+    
+    @Test
+    public void assertExecuteInCompletionOrderWithEmptyExecutionGroup() {
+        try (ExecutionGroupResultIterator<String> actual = executorEngine.executeInCompletionOrder(new ExecutionGroupContext<>(new LinkedList<>()), null, callback, false)) {
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    private ExecutorCallback<Object, String> createBlockedCallback(final Object blockedInput, final CountDownLatch blockedLatch) {
+        return (inputs, isTrunkThread, dataMap) -> {
+            List<String> result = new LinkedList<>();
+            for (Object each : inputs) {
+                if (blockedInput.equals(each)) {
+                    awaitQuietly(blockedLatch);
+                }
+                result.add(each.toString());
+            }
+            return result;
+        };
+    }
 }
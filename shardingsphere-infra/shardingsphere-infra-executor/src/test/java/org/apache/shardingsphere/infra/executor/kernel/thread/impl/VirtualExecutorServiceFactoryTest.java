@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class VirtualExecutorServiceFactoryTest {
+    
+    @Test
+    public void assertNewInstance() throws ExecutionException, InterruptedException {
+        if (VirtualExecutorServiceFactory.isSupported()) {
+            assertNewInstanceWhenSupported();
+        } else {
+            assertNewInstanceWhenNotSupported();
+        }
+    }
+    
+    private void assertNewInstanceWhenSupported() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = new VirtualExecutorServiceFactory().newInstance(0, "test-%d");
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-test-0"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private void assertNewInstanceWhenNotSupported() {
+        try {
+            new VirtualExecutorServiceFactory().newInstance(0, "test-%d");
+            fail("Expected UnsupportedOperationException to be thrown");
+        } catch (final UnsupportedOperationException ignored) {
+        }
+    }
+    
+    @Test
+    public void assertGetFeatureVersion() {
+        assertThat(VirtualExecutorServiceFactory.getFeatureVersion("1.8"), is(8));
+        assertThat(VirtualExecutorServiceFactory.getFeatureVersion("17"), is(17));
+        assertThat(VirtualExecutorServiceFactory.getFeatureVersion("21"), is(21));
+        assertThat(VirtualExecutorServiceFactory.getFeatureVersion("unknown"), is(0));
+    }
+    
+    @Test
+    public void assertGetNamePrefix() {
+        assertThat(VirtualExecutorServiceFactory.getNamePrefix("test-%d"), is("ShardingSphere-test-"));
+        assertThat(VirtualExecutorServiceFactory.getNamePrefix("%d"), is("ShardingSphere-"));
+        assertThat(VirtualExecutorServiceFactory.getNamePrefix("Execution-Group-Deadline"), is("ShardingSphere-Execution-Group-Deadline-"));
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(new VirtualExecutorServiceFactory().getType(), is("VIRTUAL"));
+    }
+}
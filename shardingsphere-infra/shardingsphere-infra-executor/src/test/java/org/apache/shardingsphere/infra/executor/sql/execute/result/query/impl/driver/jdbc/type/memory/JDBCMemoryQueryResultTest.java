@@ -317,6 +317,34 @@ public final class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertGetValuesOfMultipleRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 0L, 20L);
+        when(resultSet.getString(2)).thenReturn("foo", "bar");
+        when(resultSet.wasNull()).thenReturn(false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, true, false, false, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet);
+        for (long i = 1; i <= 18; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, long.class), is(i));
+            assertThat(actual.getValue(2, String.class), is(1 == i ? "foo" : "bar"));
+        }
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, long.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(20L));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
     private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true, false);
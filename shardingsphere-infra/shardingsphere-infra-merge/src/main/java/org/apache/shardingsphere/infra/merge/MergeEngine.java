@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.merge;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
@@ -57,14 +59,22 @@ public final class MergeEngine {
     
     private final ConfigurationProperties props;
     
+    private final ExecutorEngine executorEngine;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ResultProcessEngine> engines;
     
     public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(schemaName, databaseType, schema, props, rules, null);
+    }
+    
+    public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props,
+                       final Collection<ShardingSphereRule> rules, final ExecutorEngine executorEngine) {
         this.schemaName = schemaName;
         this.databaseType = databaseType;
         this.schema = schema;
         this.props = props;
+        this.executorEngine = executorEngine;
         engines = OrderedSPIRegistry.getRegisteredServices(ResultProcessEngine.class, rules);
     }
     
@@ -82,12 +92,29 @@ public final class MergeEngine {
         return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
     }
     
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    /**
+     * Merge query results of execution groups in completion order.
+     *
+     * @param groupResults query results of execution groups
+     * @param sqlStatementContext SQL statement context
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    public MergedResult merge(final ExecutionGroupResultIterator<QueryResult> groupResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        Optional<ResultMerger> resultMerger = findResultMerger(sqlStatementContext);
+        return resultMerger.isPresent() ? decorate(resultMerger.get().merge(groupResults, sqlStatementContext, schema), sqlStatementContext) : merge(groupResults.nextAll(), sqlStatementContext);
+    }
+    
     private Optional<MergedResult> executeMerge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        Optional<ResultMerger> resultMerger = findResultMerger(sqlStatementContext);
+        return resultMerger.isPresent() ? Optional.of(resultMerger.get().merge(queryResults, sqlStatementContext, schema)) : Optional.empty();
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<ResultMerger> findResultMerger(final SQLStatementContext<?> sqlStatementContext) {
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultMergerEngine) {
-                ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(schemaName, databaseType, entry.getKey(), props, sqlStatementContext);
-                return Optional.of(resultMerger.merge(queryResults, sqlStatementContext, schema));
+                return Optional.of(((ResultMergerEngine) entry.getValue()).newInstance(schemaName, databaseType, entry.getKey(), props, sqlStatementContext, executorEngine));
             }
         }
         return Optional.empty();
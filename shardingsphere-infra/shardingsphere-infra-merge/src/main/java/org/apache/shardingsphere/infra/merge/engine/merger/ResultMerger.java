@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.merge.engine.merger;
 
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
@@ -40,4 +41,20 @@ public interface ResultMerger {
      * @throws SQLException SQL exception
      */
     MergedResult merge(List<QueryResult> queryResults, SQLStatementContext<?> sqlStatementContext, ShardingSphereSchema schema) throws SQLException;
+    
+    /**
+     * Merge query results of execution groups in completion order.
+     * 
+     * <p>Merger which can consume query results as soon as each execution group finished should override this method,
+     * other mergers wait for all execution groups.</p>
+     *
+     * @param groupResults query results of execution groups
+     * @param sqlStatementContext SQL statement context
+     * @param schema ShardingSphere schema
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    default MergedResult merge(ExecutionGroupResultIterator<QueryResult> groupResults, SQLStatementContext<?> sqlStatementContext, ShardingSphereSchema schema) throws SQLException {
+        return merge(groupResults.nextAll(), sqlStatementContext, schema);
+    }
 }
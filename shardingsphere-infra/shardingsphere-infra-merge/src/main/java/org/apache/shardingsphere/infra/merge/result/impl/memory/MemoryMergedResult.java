@@ -55,6 +55,13 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
+    protected MemoryMergedResult(final List<MemoryQueryResultRow> memoryQueryResultRowList) {
+        memoryResultSetRows = memoryQueryResultRowList.iterator();
+        if (!memoryQueryResultRowList.isEmpty()) {
+            currentResultSetRow = memoryQueryResultRowList.get(0);
+        }
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.infra.merge;
 
+import com.google.common.util.concurrent.Futures;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultIterator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.fixture.rule.DecoratorRuleFixture;
 import org.apache.shardingsphere.infra.merge.fixture.rule.IndependentRuleFixture;
@@ -86,4 +88,23 @@ public final class MergeEngineTest {
         MergedResult actual = mergeEngine.merge(Collections.singletonList(queryResult), sqlStatementContext);
         assertThat(actual.getValue(1, String.class), is("decorated_merged_value"));
     }
+    
+    @Test
+    public void assertMergeInCompletionOrderWithIndependentRule() throws SQLException {
+        when(queryResult.getValue(1, String.class)).thenReturn("test");
+        MergeEngine mergeEngine = new MergeEngine(DefaultSchema.LOGIC_NAME, databaseType, schema, props, Collections.singletonList(new IndependentRuleFixture()));
+        MergedResult actual = mergeEngine.merge(createGroupResults(), sqlStatementContext);
+        assertThat(actual.getValue(1, String.class), is("test"));
+    }
+    
+    @Test
+    public void assertMergeInCompletionOrderWithMergerRuleAndDecoratorRuleTogether() throws SQLException {
+        MergeEngine mergeEngine = new MergeEngine(DefaultSchema.LOGIC_NAME, databaseType, schema, props, Arrays.asList(new MergerRuleFixture(), new DecoratorRuleFixture()));
+        MergedResult actual = mergeEngine.merge(createGroupResults(), sqlStatementContext);
+        assertThat(actual.getValue(1, String.class), is("decorated_merged_value"));
+    }
+    
+    private ExecutionGroupResultIterator<QueryResult> createGroupResults() {
+        return new ExecutionGroupResultIterator<>(Collections.emptyList(), Collections.singletonList(Futures.immediateFuture(Collections.singletonList(queryResult))));
+    }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.parser;
 
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
@@ -37,7 +36,8 @@ public final class ShardingSphereSQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final String databaseTypeName, final ConfigurationProperties props) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseTypeName, props.getValue(ConfigurationPropertyKey.SQL_COMMENT_PARSE_ENABLED));
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
+                databaseTypeName, props.getValue(ConfigurationPropertyKey.SQL_COMMENT_PARSE_ENABLED), props.getValue(ConfigurationPropertyKey.SQL_LITERAL_NORMALIZED_PARSE_ENABLED));
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
@@ -68,7 +68,7 @@ public final class ShardingSphereSQLParserEngine {
     private SQLStatement parse0(final String sql, final boolean useCache) {
         try {
             return sqlStatementParserEngine.parse(sql, useCache);
-        } catch (final SQLParsingException | ParseCancellationException | UncheckedExecutionException originalEx) {
+        } catch (final SQLParsingException | ParseCancellationException originalEx) {
             try {
                 return distSQLStatementParserEngine.parse(sql);
             } catch (final SQLParsingException ignored) {
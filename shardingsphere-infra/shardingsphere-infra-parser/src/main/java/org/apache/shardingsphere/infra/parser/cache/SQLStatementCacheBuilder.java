@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -26,10 +26,18 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 /**
  * SQL statement cache builder.
+ * 
+ * <p>
+ * The cache is bounded by weight instead of soft references, so cached SQL statements are not dropped all at once under GC pressure.
+ * SQL shorter than 1024 characters weighs 1, so maximum size of cache option still bounds the count of common SQL statements.
+ * Admission and eviction follow the W-TinyLFU policy, and hit, miss and eviction counters are recorded.
+ * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLStatementCacheBuilder {
     
+    private static final int WEIGHT_UNIT_SQL_LENGTH = 1024;
+    
     /**
      * Build SQL statement cache.
      *
@@ -39,7 +47,11 @@ public final class SQLStatementCacheBuilder {
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final CacheOption option, final String databaseType, final boolean sqlCommentParseEnabled) {
-        return CacheBuilder.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize())
-                .concurrencyLevel(option.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType, sqlCommentParseEnabled));
+        return Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).maximumWeight(option.getMaximumSize()).weigher(SQLStatementCacheBuilder::weigh)
+                .recordStats().build(new SQLStatementCacheLoader(databaseType, sqlCommentParseEnabled));
+    }
+    
+    private static int weigh(final String sql, final SQLStatement sqlStatement) {
+        return 1 + sql.length() / WEIGHT_UNIT_SQL_LENGTH;
     }
 }
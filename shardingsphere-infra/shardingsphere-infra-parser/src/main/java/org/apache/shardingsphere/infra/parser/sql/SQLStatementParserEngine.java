@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -32,7 +33,11 @@ public final class SQLStatementParserEngine {
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
     public SQLStatementParserEngine(final String databaseType, final boolean sqlCommentParseEnabled) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, sqlCommentParseEnabled);
+        this(databaseType, sqlCommentParseEnabled, false);
+    }
+    
+    public SQLStatementParserEngine(final String databaseType, final boolean sqlCommentParseEnabled, final boolean literalNormalizedParseEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, sqlCommentParseEnabled, literalNormalizedParseEnabled);
         // TODO use props to configure cache option
         sqlStatementCache = SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L, 4), databaseType, sqlCommentParseEnabled);
     }
@@ -45,6 +50,15 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Get statistics of SQL statement cache, including hit, miss and eviction counters.
+     *
+     * @return statistics of SQL statement cache
+     */
+    public CacheStats getCacheStats() {
+        return sqlStatementCache.stats();
     }
 }
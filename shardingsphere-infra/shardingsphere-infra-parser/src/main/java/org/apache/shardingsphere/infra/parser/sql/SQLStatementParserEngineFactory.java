@@ -36,9 +36,10 @@ public final class SQLStatementParserEngineFactory {
      *
      * @param databaseType name of database type
      * @param sqlCommentParseEnabled sql comment parse enabled
+     * @param literalNormalizedParseEnabled whether share parse tree among non-prepared SQLs which are different only in literals
      * @return SQL statement parser engine
      */
-    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final boolean sqlCommentParseEnabled) {
-        return ENGINES.getOrDefault(databaseType, ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlCommentParseEnabled)));
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final boolean sqlCommentParseEnabled, final boolean literalNormalizedParseEnabled) {
+        return ENGINES.getOrDefault(databaseType, ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlCommentParseEnabled, literalNormalizedParseEnabled)));
     }
 }
@@ -32,9 +32,16 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
+    private final boolean literalNormalizedParseEnabled;
+    
     public SQLStatementParserExecutor(final String databaseType, final boolean sqlCommentParseEnabled) {
-        parserEngine = new SQLParserEngine(databaseType, sqlCommentParseEnabled);
+        this(databaseType, sqlCommentParseEnabled, false);
+    }
+    
+    public SQLStatementParserExecutor(final String databaseType, final boolean sqlCommentParseEnabled, final boolean literalNormalizedParseEnabled) {
+        parserEngine = new SQLParserEngine(databaseType, sqlCommentParseEnabled, literalNormalizedParseEnabled);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
+        this.literalNormalizedParseEnabled = literalNormalizedParseEnabled;
     }
     
     /**
@@ -44,6 +51,6 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return visitorEngine.visit(literalNormalizedParseEnabled ? parserEngine.parseWithNormalizedLiterals(sql) : parserEngine.parse(sql, false));
     }
 }
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class SQLStatementCacheBuilderTest {
     
@@ -30,4 +34,27 @@ public final class SQLStatementCacheBuilderTest {
     public void assertBuild() {
         assertThat(SQLStatementCacheBuilder.build(new CacheOption(128, 1024L, 4), "MySQL", false), isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertWeighBySQLLength() {
+        LoadingCache<String, SQLStatement> cache = SQLStatementCacheBuilder.build(new CacheOption(128, 1024L, 4), "MySQL", false);
+        cache.put("SELECT 1", mock(SQLStatement.class));
+        cache.put("SELECT '" + Strings.repeat("x", 2048) + "'", mock(SQLStatement.class));
+        cache.cleanUp();
+        assertThat(cache.policy().eviction().get().weightedSize().getAsLong(), is(4L));
+    }
+    
+    @Test
+    public void assertRecordStats() {
+        LoadingCache<String, SQLStatement> cache = SQLStatementCacheBuilder.build(new CacheOption(128, 1L, 4), "MySQL", false);
+        cache.getIfPresent("SELECT 1");
+        cache.put("SELECT 1", mock(SQLStatement.class));
+        cache.getIfPresent("SELECT 1");
+        cache.put("SELECT 2", mock(SQLStatement.class));
+        cache.cleanUp();
+        assertThat(cache.stats().missCount(), is(1L));
+        assertThat(cache.stats().hitCount(), is(1L));
+        assertThat(cache.stats().evictionCount(), is(1L));
+        assertThat(cache.estimatedSize(), is(1L));
+    }
 }
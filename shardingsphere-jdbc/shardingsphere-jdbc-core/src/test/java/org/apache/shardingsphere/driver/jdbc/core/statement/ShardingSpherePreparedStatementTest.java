@@ -19,6 +19,7 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 
 import org.apache.shardingsphere.driver.fixture.ResetIncrementKeyGenerateAlgorithm;
 import org.apache.shardingsphere.driver.jdbc.base.AbstractShardingSphereDataSourceForShardingTest;
+import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -28,6 +29,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -61,6 +63,8 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
 
     private static final String SELECT_SQL_COLUMN_WITH_PARAMETER_MARKER = "SELECT ?, order_id, status FROM t_order_item_auto";
 
+    private static final String SELECT_DISTINCT_WITH_LIMIT_SQL = "SELECT DISTINCT user_id, status FROM t_order WHERE status = ? ORDER BY user_id LIMIT 10";
+    
     private static final String UPDATE_SQL = "UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?";
     
     private static final String UPDATE_AUTO_SQL = "UPDATE t_order_auto SET status = ? WHERE order_id = ?";
@@ -511,6 +515,22 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         }
     }
     
+    @Test
+    public void assertExecuteSelectDistinctWithLimitTwice() throws SQLException {
+        try (PreparedStatement preparedStatement = getShardingSphereDataSource().getConnection().prepareStatement(SELECT_DISTINCT_WITH_LIMIT_SQL)) {
+            preparedStatement.setString(1, "init");
+            Collection<String> expected = getRewrittenSQLs(preparedStatement);
+            preparedStatement.setString(1, "init");
+            assertThat(getRewrittenSQLs(preparedStatement), is(expected));
+        }
+    }
+    
+    private Collection<String> getRewrittenSQLs(final PreparedStatement preparedStatement) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return ((ShardingSphereResultSet) resultSet).getExecutionContext().getExecutionUnits().stream().map(each -> each.getSqlUnit().getSql()).sorted().collect(Collectors.toList());
+        }
+    }
+    
     @Test
     public void assertClearBatch() throws SQLException {
         try (
@@ -76,7 +76,8 @@ public final class MetaDataContextsBuilder {
         this.globalRuleConfigs = globalRuleConfigs;
         this.schemas = schemas;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), this.props.<String>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE),
+                this.props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_GROUP_TIMEOUT_MILLISECONDS));
     }
     
     /**
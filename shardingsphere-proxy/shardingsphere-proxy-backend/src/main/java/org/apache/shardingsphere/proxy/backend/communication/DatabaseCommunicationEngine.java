@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
@@ -50,6 +51,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -165,7 +167,8 @@ public final class DatabaseCommunicationEngine {
     private MergedResult mergeQuery(final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(DefaultSchema.LOGIC_NAME, 
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(metaData.getName()).getResource().getDatabaseType(),
-                metaData.getSchema(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules());
+                metaData.getSchema(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules(),
+                BackendExecutorContext.getInstance().getExecutorEngine());
         return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
@@ -217,6 +220,22 @@ public final class DatabaseCommunicationEngine {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row data.
+     * 
+     * <p>Values are read from merged result directly without building query response cells, which is used by text protocol.</p>
+     *
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    public Collection<Object> getRowData() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
     private boolean isBinary() {
         return JDBCDriverType.PREPARED_STATEMENT.equals(driverType);
     }
@@ -228,6 +247,7 @@ public final class DatabaseCommunicationEngine {
      */
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -238,6 +258,18 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Collections.emptyList();
+        }
+        try {
+            mergedResult.close();
+            return Collections.emptyList();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        }
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,9 +20,11 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -47,10 +49,13 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -77,6 +82,17 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
+    private final Multimap<String, Connection> idleConnections = LinkedHashMultimap.create();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile String cachedConnectionsSchemaName;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile String idleConnectionsSchemaName;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile long idleConnectionsDeadlineNanos;
+    
     private final Collection<DatabaseCommunicationEngine> databaseCommunicationEngines = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
     private final Collection<DatabaseCommunicationEngine> inUseDatabaseCommunicationEngines = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
@@ -163,7 +179,9 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(getSchemaName(), "Current schema is null.");
-        List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(getSchemaName(), dataSourceName, connectionSize, connectionMode);
+        List<Connection> result = TransactionType.LOCAL == transactionStatus.getTransactionType()
+                ? acquireConnections(dataSourceName, connectionSize, connectionMode)
+                : ProxyContext.getInstance().getBackendDataSource().getConnections(getSchemaName(), dataSourceName, connectionSize, connectionMode);
         for (Connection each : result) {
             replayMethodsInvocation(each);
         }
@@ -172,13 +190,38 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private List<Connection> getConnectionsWithoutTransaction(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(getSchemaName(), "Current schema is null.");
-        List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(getSchemaName(), dataSourceName, connectionSize, connectionMode);
+        List<Connection> result = acquireConnections(dataSourceName, connectionSize, connectionMode);
         synchronized (cachedConnections) {
             cachedConnections.putAll(dataSourceName, result);
         }
         return result;
     }
     
+    private List<Connection> acquireConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        String schemaName = getSchemaName();
+        cachedConnectionsSchemaName = schemaName;
+        List<Connection> result = takeIdleConnections(schemaName, dataSourceName, connectionSize);
+        if (result.size() < connectionSize) {
+            result.addAll(ProxyContext.getInstance().getBackendDataSource().getConnections(schemaName, dataSourceName, connectionSize - result.size(), connectionMode));
+        }
+        return result;
+    }
+    
+    private List<Connection> takeIdleConnections(final String schemaName, final String dataSourceName, final int connectionSize) {
+        List<Connection> result = new ArrayList<>(connectionSize);
+        synchronized (idleConnections) {
+            if (!schemaName.equals(idleConnectionsSchemaName)) {
+                return result;
+            }
+            Iterator<Connection> iterator = idleConnections.get(dataSourceName).iterator();
+            while (result.size() < connectionSize && iterator.hasNext()) {
+                result.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+    
     private void replayMethodsInvocation(final Connection target) {
         for (ConnectionPostProcessor each : connectionPostProcessors) {
             each.process(target);
@@ -313,6 +356,103 @@ public final class BackendConnection implements ExecutorJDBCManager {
         return result;
     }
     
+    /**
+     * Release connections after command finished out of transaction.
+     * 
+     * <p>If proxy backend connection idle milliseconds is configured, connections of local transaction type are reset and kept for reuse by following commands
+     * until the idle window passes or threads are awaiting connections of the data source. Otherwise connections are closed.</p>
+     *
+     * @return SQL exception when connections release
+     */
+    public synchronized Collection<SQLException> releaseConnections() {
+        long idleMilliseconds = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_IDLE_MILLISECONDS);
+        if (idleMilliseconds <= 0 || TransactionType.LOCAL != transactionStatus.getTransactionType()) {
+            return closeConnections(false);
+        }
+        Collection<SQLException> result = new LinkedList<>();
+        synchronized (idleConnections) {
+            if (null != cachedConnectionsSchemaName && !cachedConnectionsSchemaName.equals(idleConnectionsSchemaName)) {
+                result.addAll(closeIdleConnections());
+                idleConnectionsSchemaName = cachedConnectionsSchemaName;
+            }
+            for (Entry<String, Connection> entry : cachedConnections.entries()) {
+                keepIdleConnection(entry.getKey(), entry.getValue(), result);
+            }
+            idleConnectionsDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(idleMilliseconds);
+            if (!idleConnections.isEmpty()) {
+                IdleConnectionsReleaser.getInstance().register(this);
+            }
+        }
+        cachedConnections.clear();
+        connectionPostProcessors.clear();
+        return result;
+    }
+    
+    private void keepIdleConnection(final String dataSourceName, final Connection connection, final Collection<SQLException> exceptions) {
+        try {
+            if (ProxyContext.getInstance().getBackendDataSource().hasThreadsAwaitingConnection(idleConnectionsSchemaName, dataSourceName)) {
+                connection.close();
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            idleConnections.put(dataSourceName, connection);
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+            closeConnection(connection, exceptions);
+        }
+    }
+    
+    /**
+     * Release idle connections whose idle window passed or whose data source has threads awaiting connections.
+     *
+     * @return SQL exception when idle connections release
+     */
+    public Collection<SQLException> releaseIdleConnections() {
+        synchronized (idleConnections) {
+            if (System.nanoTime() - idleConnectionsDeadlineNanos >= 0) {
+                return closeIdleConnections();
+            }
+            Collection<SQLException> result = new LinkedList<>();
+            Iterator<Entry<String, Connection>> iterator = idleConnections.entries().iterator();
+            while (iterator.hasNext()) {
+                Entry<String, Connection> entry = iterator.next();
+                if (ProxyContext.getInstance().getBackendDataSource().hasThreadsAwaitingConnection(idleConnectionsSchemaName, entry.getKey())) {
+                    closeConnection(entry.getValue(), result);
+                    iterator.remove();
+                }
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Close idle connections.
+     *
+     * @return SQL exception when idle connections close
+     */
+    public Collection<SQLException> closeIdleConnections() {
+        Collection<SQLException> result = new LinkedList<>();
+        synchronized (idleConnections) {
+            for (Connection each : idleConnections.values()) {
+                closeConnection(each, result);
+            }
+            idleConnections.clear();
+        }
+        return result;
+    }
+    
+    private void closeConnection(final Connection connection, final Collection<SQLException> exceptions) {
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
+    }
+    
     /**
      * Close federation executor.
      * 
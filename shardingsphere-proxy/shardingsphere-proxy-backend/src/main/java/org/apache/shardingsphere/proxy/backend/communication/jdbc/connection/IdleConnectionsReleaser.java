@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idle connections releaser, which releases idle backend connections of frontend sessions which have no following commands.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class IdleConnectionsReleaser {
+    
+    private static final IdleConnectionsReleaser INSTANCE = new IdleConnectionsReleaser();
+    
+    private static final long CHECK_INTERVAL_MILLISECONDS = 100L;
+    
+    private final Collection<BackendConnection> backendConnections = ConcurrentHashMap.newKeySet();
+    
+    private volatile ScheduledExecutorService executor;
+    
+    /**
+     * Get instance of idle connections releaser.
+     *
+     * @return instance of idle connections releaser
+     */
+    public static IdleConnectionsReleaser getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register backend connection which holds idle connections.
+     *
+     * @param backendConnection backend connection
+     */
+    public void register(final BackendConnection backendConnection) {
+        if (null == executor) {
+            startExecutor();
+        }
+        backendConnections.add(backendConnection);
+    }
+    
+    private synchronized void startExecutor() {
+        if (null != executor) {
+            return;
+        }
+        ScheduledExecutorService result = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Idle-Connections-Releaser"));
+        result.scheduleWithFixedDelay(this::releaseIdleConnections, CHECK_INTERVAL_MILLISECONDS, CHECK_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        executor = result;
+    }
+    
+    private void releaseIdleConnections() {
+        for (BackendConnection each : backendConnections) {
+            try {
+                each.releaseIdleConnections().forEach(ex -> log.warn("Release idle connection failed.", ex));
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.warn("Release idle connections failed.", ex);
+            }
+            synchronized (each.getIdleConnections()) {
+                if (each.getIdleConnections().isEmpty()) {
+                    backendConnections.remove(each);
+                }
+            }
+        }
+    }
+}
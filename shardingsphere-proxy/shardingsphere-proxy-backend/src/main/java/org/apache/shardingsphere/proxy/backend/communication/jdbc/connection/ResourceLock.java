@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,25 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until condition satisfied.
+     * 
+     * <p>Condition is checked while holding lock, so notification which happens after condition changed can not be lost.</p>
+     *
+     * @param releaseCondition condition to stop awaiting
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwaitUntil(final BooleanSupplier releaseCondition) {
+        lock.lock();
+        try {
+            while (!releaseCondition.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
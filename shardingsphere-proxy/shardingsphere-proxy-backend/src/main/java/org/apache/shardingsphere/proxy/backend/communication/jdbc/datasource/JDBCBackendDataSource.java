@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -119,6 +122,23 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         return null != transactionManager && transactionManager.isInTransaction();
     }
     
+    /**
+     * Judge whether there are threads awaiting connections of data source.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return there are threads awaiting connections or not
+     */
+    public boolean hasThreadsAwaitingConnection(final String schemaName, final String dataSourceName) {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(schemaName);
+        DataSource dataSource = null == metaData ? null : metaData.getResource().getDataSources().get(dataSourceName);
+        if (!(dataSource instanceof HikariDataSource)) {
+            return false;
+        }
+        HikariPoolMXBean poolMXBean = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        return null != poolMXBean && poolMXBean.getThreadsAwaitingConnection() > 0;
+    }
+    
     private TransactionRule getTransactionRule() {
         Optional<TransactionRule> transactionRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().getRules().stream().filter(
             each -> each instanceof TransactionRule).map(each -> (TransactionRule) each).findFirst();
@@ -62,7 +62,7 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
     
     @Override
     public Collection<Object> getRowData() throws SQLException {
-        return databaseCommunicationEngine.getQueryResponseRow().getData();
+        return databaseCommunicationEngine.getRowData();
     }
     
     @Override
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
@@ -326,6 +327,68 @@ public final class BackendConnectionTest {
         assertConnectionsCached("ds1", connections);
     }
     
+    @Test
+    public void assertReleaseConnectionsWithoutIdleMilliseconds() throws SQLException {
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        backendConnection.getConnections("ds1", 1, null);
+        assertTrue(backendConnection.releaseConnections().isEmpty());
+        verify(connections.get(0)).close();
+        assertTrue(backendConnection.getIdleConnections().isEmpty());
+    }
+    
+    @Test
+    public void assertReleaseConnectionsAndReuseIdleConnections() throws SQLException {
+        setIdleMilliseconds(60000L);
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        backendConnection.getConnections("ds1", 1, null);
+        assertTrue(backendConnection.releaseConnections().isEmpty());
+        verify(connections.get(0), never()).close();
+        verify(connections.get(0)).rollback();
+        verify(connections.get(0)).setAutoCommit(true);
+        assertThat(backendConnection.getIdleConnections().size(), is(1));
+        List<Connection> actual = backendConnection.getConnections("ds1", 1, null);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(connections.get(0)));
+        assertTrue(backendConnection.getIdleConnections().isEmpty());
+        verify(backendDataSource).getConnections(anyString(), anyString(), eq(1), any());
+        assertConnectionsCached("ds1", connections);
+    }
+    
+    @Test
+    public void assertReleaseConnectionsWhenThreadsAwaitingConnection() throws SQLException {
+        setIdleMilliseconds(60000L);
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        when(backendDataSource.hasThreadsAwaitingConnection(String.format(SCHEMA_PATTERN, 0), "ds1")).thenReturn(true);
+        backendConnection.getConnections("ds1", 1, null);
+        assertTrue(backendConnection.releaseConnections().isEmpty());
+        verify(connections.get(0)).close();
+        assertTrue(backendConnection.getIdleConnections().isEmpty());
+    }
+    
+    @Test
+    public void assertCloseIdleConnections() throws SQLException {
+        setIdleMilliseconds(60000L);
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        backendConnection.getConnections("ds1", 1, null);
+        backendConnection.releaseConnections();
+        assertTrue(backendConnection.closeIdleConnections().isEmpty());
+        verify(connections.get(0)).close();
+        assertTrue(backendConnection.getIdleConnections().isEmpty());
+    }
+    
+    private void setIdleMilliseconds(final long idleMilliseconds) {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_IDLE_MILLISECONDS.getKey(), String.valueOf(idleMilliseconds));
+        MetaDataContexts newMetaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), metaDataContexts.getMetaDataMap(),
+                mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class), new ConfigurationProperties(props), mock(OptimizerContext.class));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts()).thenReturn(newMetaDataContexts);
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private void assertConnectionsCached(final String dataSourceName, final Collection<Connection> connections) {
@@ -83,7 +83,7 @@ public final class CommandExecutorTask implements Runnable {
             }
             if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
                 exceptions.addAll(backendConnection.closeDatabaseCommunicationEngines(true));
-                exceptions.addAll(backendConnection.closeConnections(false));
+                exceptions.addAll(backendConnection.releaseConnections());
                 backendConnection.getConnectionStatus().switchToReleased();
             }
             processClosedExceptions(exceptions);
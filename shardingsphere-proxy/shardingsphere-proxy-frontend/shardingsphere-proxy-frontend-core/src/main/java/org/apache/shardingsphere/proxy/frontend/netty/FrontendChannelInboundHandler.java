@@ -95,6 +95,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        backendConnection.getResourceLock().doNotify();
         closeAllResources();
     }
     
@@ -103,6 +104,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         PrimaryVisitedManager.clear();
         backendConnection.closeDatabaseCommunicationEngines(true);
         backendConnection.closeConnections(true);
+        backendConnection.closeIdleConnections();
         backendConnection.closeFederationExecutor();
         databaseProtocolFrontendEngine.release(backendConnection);
     }
@@ -101,7 +101,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
-        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.releaseConnections()).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederationExecutor()).thenReturn(Collections.emptyList());
         CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
         actual.run();
@@ -121,7 +121,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCommandExecuteEngine().writeQueryData(any(ChannelHandlerContext.class), any(BackendConnection.class), any(QueryCommandExecutor.class), anyInt())).thenReturn(true);
         when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
-        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.releaseConnections()).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederationExecutor()).thenReturn(Collections.emptyList());
         CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
         actual.run();
@@ -145,7 +145,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
-        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.releaseConnections()).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederationExecutor()).thenReturn(Collections.emptyList());
         CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
         actual.run();
@@ -166,7 +166,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
         when(engine.getCommandExecuteEngine().getErrorPacket(mockException, backendConnection)).thenReturn(databasePacket);
         when(engine.getCommandExecuteEngine().getOtherPacket(backendConnection)).thenReturn(Optional.of(databasePacket));
-        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.releaseConnections()).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederationExecutor()).thenReturn(Collections.emptyList());
         CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
         actual.run();
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
@@ -40,7 +41,9 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text.PostgreSQLComQueryExecutor;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -66,7 +69,7 @@ public final class PostgreSQLCommandExecutorFactory {
             case SIMPLE_QUERY:
                 return new PostgreSQLComQueryExecutor(connectionContext, (PostgreSQLComQueryPacket) commandPacket, backendConnection);
             case PARSE_COMMAND:
-                return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection);
+                return createParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection, connectionContext);
             case BIND_COMMAND:
                 connectionContext.getPendingExecutors().add(new PostgreSQLComBindExecutor(connectionContext, (PostgreSQLComBindPacket) commandPacket, backendConnection));
                 break;
@@ -74,6 +77,9 @@ public final class PostgreSQLCommandExecutorFactory {
                 connectionContext.getPendingExecutors().add(new PostgreSQLComDescribeExecutor(connectionContext));
                 break;
             case EXECUTE_COMMAND:
+                if (connectionContext.addToBatchedInserts((PostgreSQLComExecutePacket) commandPacket, backendConnection)) {
+                    break;
+                }
                 return new PostgreSQLComExecuteExecutor(connectionContext, (PostgreSQLComExecutePacket) commandPacket);
             case SYNC_COMMAND:
                 return new PostgreSQLComSyncExecutor(connectionContext, backendConnection);
@@ -87,4 +93,16 @@ public final class PostgreSQLCommandExecutorFactory {
         }
         return Collections::emptyList;
     }
+    
+    private static CommandExecutor createParseExecutor(final PostgreSQLComParsePacket packet, final BackendConnection backendConnection, final PostgreSQLConnectionContext connectionContext) {
+        PostgreSQLComParseExecutor parseExecutor = new PostgreSQLComParseExecutor(packet, backendConnection);
+        if (!connectionContext.isBatchedInsertsPending()) {
+            return parseExecutor;
+        }
+        return () -> {
+            Collection<DatabasePacket<?>> result = new LinkedList<>(connectionContext.executeBatchedInserts());
+            result.addAll(parseExecutor.execute());
+            return result;
+        };
+    }
 }
@@ -20,16 +20,27 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.PostgreSQLBinaryStatement;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.PostgreSQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLBatchedInsertsExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.describe.PostgreSQLComDescribeExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -54,6 +65,10 @@ public final class PostgreSQLConnectionContext {
     
     private boolean errorOccurred;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PostgreSQLBatchedInsertsExecutor batchedInsertsExecutor;
+    
     /**
      * Create a portal.
      *
@@ -124,11 +139,89 @@ public final class PostgreSQLConnectionContext {
         return pendingExecutors.stream().filter(PostgreSQLComDescribeExecutor.class::isInstance).map(PostgreSQLComDescribeExecutor.class::cast).findFirst();
     }
     
+    /**
+     * Add pending bind of insert statement to batched inserts.
+     *
+     * @param executePacket execute packet
+     * @param backendConnection backend connection
+     * @return added to batched inserts or not
+     */
+    public boolean addToBatchedInserts(final PostgreSQLComExecutePacket executePacket, final BackendConnection backendConnection) {
+        Optional<PostgreSQLComBindPacket> bindPacket = getBatchableBindPacket(executePacket.getPortal());
+        if (!bindPacket.isPresent()) {
+            return false;
+        }
+        PostgreSQLBinaryStatement binaryStatement = PostgreSQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId(), bindPacket.get().getStatementId());
+        if (null == binaryStatement || !isBatchableInsert(binaryStatement.getSqlStatement())) {
+            return false;
+        }
+        if (null != batchedInsertsExecutor && !batchedInsertsExecutor.getBinaryStatement().getSql().equals(binaryStatement.getSql())) {
+            return false;
+        }
+        if (null == batchedInsertsExecutor) {
+            batchedInsertsExecutor = new PostgreSQLBatchedInsertsExecutor(binaryStatement, backendConnection);
+        }
+        Collection<DatabasePacket<?>> packets = new LinkedList<>();
+        for (CommandExecutor each : pendingExecutors) {
+            packets.addAll(each instanceof PostgreSQLComBindExecutor ? Collections.singleton(new PostgreSQLBindCompletePacket()) : ((PostgreSQLComDescribeExecutor) each).execute());
+        }
+        pendingExecutors.clear();
+        batchedInsertsExecutor.addBatch(bindPacket.get().getParameters(), packets);
+        return true;
+    }
+    
+    /*
+     * Insert returning rows can not be executed as JDBC batch, and its data rows must be sent to client.
+     */
+    private boolean isBatchableInsert(final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof InsertStatement)) {
+            return false;
+        }
+        return !(sqlStatement instanceof PostgreSQLInsertStatement) || !((PostgreSQLInsertStatement) sqlStatement).getReturningSegment().isPresent();
+    }
+    
+    private Optional<PostgreSQLComBindPacket> getBatchableBindPacket(final String portal) {
+        PostgreSQLComBindPacket result = null;
+        for (CommandExecutor each : pendingExecutors) {
+            if (each instanceof PostgreSQLComBindExecutor && null == result) {
+                result = ((PostgreSQLComBindExecutor) each).getPacket();
+            } else if (!(each instanceof PostgreSQLComDescribeExecutor)) {
+                return Optional.empty();
+            }
+        }
+        return null != result && portal.equals(result.getPortal()) ? Optional.of(result) : Optional.empty();
+    }
+    
+    /**
+     * Judge whether batched inserts are pending.
+     *
+     * @return batched inserts are pending or not
+     */
+    public boolean isBatchedInsertsPending() {
+        return null != batchedInsertsExecutor;
+    }
+    
+    /**
+     * Execute batched inserts if present.
+     *
+     * @return response packets of batched inserts
+     * @throws SQLException SQL exception
+     */
+    public Collection<DatabasePacket<?>> executeBatchedInserts() throws SQLException {
+        if (null == batchedInsertsExecutor) {
+            return Collections.emptyList();
+        }
+        PostgreSQLBatchedInsertsExecutor executor = batchedInsertsExecutor;
+        batchedInsertsExecutor = null;
+        return executor.execute();
+    }
+    
     /**
      * Clear context.
      */
     public void clearContext() {
         pendingExecutors.clear();
+        batchedInsertsExecutor = null;
         updateCount = 0;
         currentPacketType = null;
         errorOccurred = false;
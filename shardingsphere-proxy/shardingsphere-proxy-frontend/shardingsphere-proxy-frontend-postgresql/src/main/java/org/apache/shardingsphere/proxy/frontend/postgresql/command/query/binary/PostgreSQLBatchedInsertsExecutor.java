@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.PostgreSQLBinaryStatement;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Batched inserts executor for PostgreSQL.
+ * 
+ * <p>Collects the bind and execute messages of the same insert statement received before sync,
+ * and executes them as JDBC batches per route unit.</p>
+ */
+public final class PostgreSQLBatchedInsertsExecutor implements CommandExecutor {
+    
+    @Getter
+    private final PostgreSQLBinaryStatement binaryStatement;
+    
+    private final BackendConnection backendConnection;
+    
+    private final List<List<Object>> parameterSets = new ArrayList<>();
+    
+    private final List<Collection<DatabasePacket<?>>> leadingPackets = new ArrayList<>();
+    
+    private final Map<Statement, List<Integer>> parameterSetIndexes = new IdentityHashMap<>();
+    
+    private long[] updateCounts;
+    
+    public PostgreSQLBatchedInsertsExecutor(final PostgreSQLBinaryStatement binaryStatement, final BackendConnection backendConnection) {
+        this.binaryStatement = binaryStatement;
+        this.backendConnection = backendConnection;
+    }
+    
+    /**
+     * Add one group of parameters to batch.
+     *
+     * @param parameters parameters of bind message
+     * @param packets packets to be responded before command complete of this group
+     */
+    public void addBatch(final List<Object> parameters, final Collection<DatabasePacket<?>> packets) {
+        parameterSets.add(parameters);
+        leadingPackets.add(packets);
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        updateCounts = new long[parameterSets.size()];
+        executeBatch();
+        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        String sqlCommand = PostgreSQLCommand.valueOf(binaryStatement.getSqlStatement().getClass()).map(PostgreSQLCommand::getTag).orElse("");
+        for (int i = 0; i < parameterSets.size(); i++) {
+            result.addAll(leadingPackets.get(i));
+            result.add(new PostgreSQLCommandCompletePacket(sqlCommand, updateCounts[i]));
+        }
+        return result;
+    }
+    
+    private void executeBatch() throws SQLException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaData(backendConnection.getSchemaName());
+        Collection<ShardingSphereRule> rules = metaData.getRuleMetaData().getRules();
+        List<SQLStatementContext<?>> sqlStatementContexts = new ArrayList<>(parameterSets.size());
+        for (List<Object> each : parameterSets) {
+            sqlStatementContexts.add(SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), each, binaryStatement.getSqlStatement(), backendConnection.getDefaultSchemaName()));
+        }
+        if (rules.stream().anyMatch(each -> each instanceof RawExecutionRule)) {
+            executeOneByOne(sqlStatementContexts);
+            return;
+        }
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        Map<ExecutionUnit, Map<Integer, List<Object>>> batchedExecutionUnits = new LinkedHashMap<>();
+        ExecutionContext executionContext = null;
+        for (int i = 0; i < parameterSets.size(); i++) {
+            executionContext = kernelProcessor.generateExecutionContext(
+                    new LogicSQL(sqlStatementContexts.get(i), binaryStatement.getSql(), parameterSets.get(i)), metaData, metaDataContexts.getProps());
+            if (executionContext.getRouteContext().isFederated()) {
+                executeOneByOne(sqlStatementContexts);
+                return;
+            }
+            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+                batchedExecutionUnits.computeIfAbsent(each, unused -> new LinkedHashMap<>()).put(i, each.getSqlUnit().getParameters());
+            }
+        }
+        if (batchedExecutionUnits.isEmpty()) {
+            return;
+        }
+        int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
+                JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, backendConnection, new StatementOption(false), rules);
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), batchedExecutionUnits.keySet());
+        try {
+            addBatches(executionGroupContext, batchedExecutionUnits);
+            JDBCExecutor jdbcExecutor = new JDBCExecutor(BackendExecutorContext.getInstance().getExecutorEngine(), backendConnection.isSerialExecute());
+            jdbcExecutor.execute(executionGroupContext, new BatchedInsertsJDBCExecutorCallback(metaData, binaryStatement.getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown()));
+        } finally {
+            closeStatements(executionGroupContext);
+        }
+    }
+    
+    private void executeOneByOne(final List<SQLStatementContext<?>> sqlStatementContexts) throws SQLException {
+        for (int i = 0; i < parameterSets.size(); i++) {
+            ResponseHeader responseHeader = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
+                    sqlStatementContexts.get(i), binaryStatement.getSql(), parameterSets.get(i), backendConnection).execute();
+            if (responseHeader instanceof UpdateResponseHeader) {
+                updateCounts[i] = ((UpdateResponseHeader) responseHeader).getUpdateCount();
+            }
+        }
+    }
+    
+    private void addBatches(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final Map<ExecutionUnit, Map<Integer, List<Object>>> batchedExecutionUnits) throws SQLException {
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                PreparedStatement preparedStatement = (PreparedStatement) each.getStorageResource();
+                List<Integer> indexes = new ArrayList<>();
+                for (Entry<Integer, List<Object>> entry : batchedExecutionUnits.get(each.getExecutionUnit()).entrySet()) {
+                    setParameters(preparedStatement, entry.getValue());
+                    preparedStatement.addBatch();
+                    indexes.add(entry.getKey());
+                }
+                parameterSetIndexes.put(preparedStatement, indexes);
+            }
+        }
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            Object parameter = parameters.get(i);
+            if (parameter instanceof TypeUnspecifiedSQLParameter) {
+                preparedStatement.setObject(i + 1, parameter, Types.OTHER);
+            } else {
+                preparedStatement.setObject(i + 1, parameter);
+            }
+        }
+    }
+    
+    private synchronized void accumulateUpdateCounts(final Statement statement, final int[] batchUpdateCounts) {
+        List<Integer> indexes = parameterSetIndexes.get(statement);
+        for (int i = 0; i < batchUpdateCounts.length && i < indexes.size(); i++) {
+            if (batchUpdateCounts[i] > 0) {
+                updateCounts[indexes.get(i)] += batchUpdateCounts[i];
+            }
+        }
+    }
+    
+    private void closeStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        parameterSetIndexes.clear();
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                each.getStorageResource().close();
+            }
+        }
+    }
+    
+    private final class BatchedInsertsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
+        
+        BatchedInsertsJDBCExecutorCallback(final ShardingSphereMetaData metaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+            super(metaData.getResource().getDatabaseType(), sqlStatement, isExceptionThrown);
+        }
+        
+        @Override
+        protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+            int[] result = statement.executeBatch();
+            accumulateUpdateCounts(statement, result);
+            return result;
+        }
+        
+        @Override
+        protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement) {
+            return Optional.empty();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
@@ -47,6 +48,7 @@ public final class PostgreSQLComBindExecutor implements CommandExecutor {
     
     private final PostgreSQLConnectionContext connectionContext;
     
+    @Getter
     private final PostgreSQLComBindPacket packet;
     
     private final BackendConnection backendConnection;
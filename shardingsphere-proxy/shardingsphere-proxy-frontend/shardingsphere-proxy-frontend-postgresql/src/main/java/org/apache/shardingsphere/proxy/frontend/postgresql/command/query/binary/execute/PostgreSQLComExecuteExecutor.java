@@ -51,7 +51,7 @@ public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
-        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        Collection<DatabasePacket<?>> result = new LinkedList<>(connectionContext.executeBatchedInserts());
         for (CommandExecutor each : connectionContext.getPendingExecutors()) {
             result.addAll(each.execute());
         }
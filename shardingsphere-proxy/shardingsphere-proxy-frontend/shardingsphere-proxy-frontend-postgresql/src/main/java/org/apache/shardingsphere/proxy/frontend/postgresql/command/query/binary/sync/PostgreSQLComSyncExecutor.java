@@ -24,10 +24,11 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrPacketFactory;
 
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedList;
 
 /**
  * Command sync executor for PostgreSQL.
@@ -41,8 +42,18 @@ public final class PostgreSQLComSyncExecutor implements QueryCommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        connectionContext.clearContext();
-        return Collections.singleton(new PostgreSQLReadyForQueryPacket(backendConnection.getTransactionStatus().isInTransaction()));
+        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        try {
+            if (!connectionContext.isErrorOccurred()) {
+                result.addAll(connectionContext.executeBatchedInserts());
+            }
+        } catch (final SQLException ex) {
+            result.add(PostgreSQLErrPacketFactory.newInstance(ex));
+        } finally {
+            connectionContext.clearContext();
+        }
+        result.add(new PostgreSQLReadyForQueryPacket(backendConnection.getTransactionStatus().isInTransaction()));
+        return result;
     }
     
     @Override
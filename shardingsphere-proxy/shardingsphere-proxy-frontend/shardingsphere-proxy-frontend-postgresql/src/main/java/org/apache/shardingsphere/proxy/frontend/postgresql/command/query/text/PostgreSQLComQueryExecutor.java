@@ -45,7 +45,6 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackSta
 
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedList;
 
 /**
@@ -68,12 +67,15 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
+        Collection<DatabasePacket<?>> result = new LinkedList<>(connectionContext.executeBatchedInserts());
         ResponseHeader responseHeader = textProtocolBackendHandler.execute();
         if (responseHeader instanceof QueryResponseHeader) {
-            return Collections.singleton(createRowDescriptionPacket((QueryResponseHeader) responseHeader));
+            result.add(createRowDescriptionPacket((QueryResponseHeader) responseHeader));
+            return result;
         }
         responseType = ResponseType.UPDATE;
-        return Collections.singleton(createUpdatePacket((UpdateResponseHeader) responseHeader));
+        result.add(createUpdatePacket((UpdateResponseHeader) responseHeader));
+        return result;
     }
     
     private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
@@ -37,7 +37,10 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.parse.PostgreSQLComParseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync.PostgreSQLComSyncExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text.PostgreSQLComQueryExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.returning.ReturningSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,7 +56,9 @@ import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -88,6 +93,42 @@ public final class PostgreSQLCommandExecutorFactoryTest {
         assertThat(commandExecutorIterator.next(), instanceOf(PostgreSQLComDescribeExecutor.class));
     }
     
+    @Test
+    public void assertBatchedInsertsCommandExecutors() throws SQLException {
+        PostgreSQLBinaryStatementRegistry.getInstance().register(1, "S_1", "INSERT INTO t_order (order_id) VALUES (?)", new PostgreSQLInsertStatement(), Collections.emptyList());
+        PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getStatementId()).thenReturn("S_1");
+        when(bindPacket.getPortal()).thenReturn("");
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getPortal()).thenReturn("");
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        PostgreSQLCommandExecutorFactory.newInstance(PostgreSQLCommandPacketType.BIND_COMMAND, bindPacket, backendConnection, connectionContext);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(PostgreSQLCommandPacketType.EXECUTE_COMMAND, executePacket, backendConnection, connectionContext);
+        assertTrue(actual.execute().isEmpty());
+        assertTrue(connectionContext.getPendingExecutors().isEmpty());
+        assertTrue(connectionContext.isBatchedInsertsPending());
+        connectionContext.clearContext();
+        assertFalse(connectionContext.isBatchedInsertsPending());
+    }
+    
+    @Test
+    public void assertInsertReturningCommandExecutors() throws SQLException {
+        PostgreSQLInsertStatement insertStatement = new PostgreSQLInsertStatement();
+        insertStatement.setReturningSegment(new ReturningSegment(0, 0, new ProjectionsSegment(0, 0)));
+        PostgreSQLBinaryStatementRegistry.getInstance().register(1, "S_2", "INSERT INTO t_order (order_id) VALUES (?) RETURNING order_id", insertStatement, Collections.emptyList());
+        PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getStatementId()).thenReturn("S_2");
+        when(bindPacket.getPortal()).thenReturn("");
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getPortal()).thenReturn("");
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        PostgreSQLCommandExecutorFactory.newInstance(PostgreSQLCommandPacketType.BIND_COMMAND, bindPacket, backendConnection, connectionContext);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(PostgreSQLCommandPacketType.EXECUTE_COMMAND, executePacket, backendConnection, connectionContext);
+        assertThat(actual, instanceOf(PostgreSQLComExecuteExecutor.class));
+        assertThat(connectionContext.getPendingExecutors().size(), is(1));
+        assertFalse(connectionContext.isBatchedInsertsPending());
+    }
+    
     @Test
     public void assertNewInstance() throws SQLException {
         when(backendConnection.getSchemaName()).thenReturn("schema");
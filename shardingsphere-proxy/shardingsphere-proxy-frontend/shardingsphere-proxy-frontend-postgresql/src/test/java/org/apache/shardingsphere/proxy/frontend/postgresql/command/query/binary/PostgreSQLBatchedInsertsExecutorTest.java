@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.PostgreSQLBinaryStatement;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.optimize.context.OptimizerContext;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLBatchedInsertsExecutorTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private PreparedStatement preparedStatement;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException, SQLException {
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), getMetaDataMap(),
+                mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class), new ConfigurationProperties(new Properties()), mock(OptimizerContext.class, RETURNS_DEEP_STUBS));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+        when(backendConnection.getSchemaName()).thenReturn("schema");
+        when(backendConnection.getDefaultSchemaName()).thenReturn("schema");
+        Connection connection = mock(Connection.class);
+        when(backendConnection.getConnections(anyString(), anyInt(), any())).thenReturn(Collections.singletonList(connection));
+        when(backendConnection.createStorageResource(anyString(), anyList(), any(Connection.class), any(), any(StatementOption.class))).thenReturn(preparedStatement);
+        when(preparedStatement.getConnection().getMetaData().getURL()).thenReturn("jdbc:postgresql://127.0.0.1:5432/demo_ds");
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+    }
+    
+    private Map<String, ShardingSphereMetaData> getMetaDataMap() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getResource().getDatabaseType()).thenReturn(new PostgreSQLDatabaseType());
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_0", mock(DataSource.class)));
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        return Collections.singletonMap("schema", metaData);
+    }
+    
+    @Test
+    public void assertExecuteBatchPerRouteUnit() throws SQLException {
+        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine("PostgreSQL", new ConfigurationProperties(new Properties())).parse(SQL, true);
+        PostgreSQLBatchedInsertsExecutor executor = new PostgreSQLBatchedInsertsExecutor(new PostgreSQLBinaryStatement(SQL, sqlStatement, Collections.emptyList()), backendConnection);
+        executor.addBatch(Arrays.asList(1, "init"), Collections.singletonList(new PostgreSQLBindCompletePacket()));
+        executor.addBatch(Arrays.asList(2, "paid"), Collections.singletonList(new PostgreSQLBindCompletePacket()));
+        Collection<DatabasePacket<?>> actual = executor.execute();
+        assertThat(actual.size(), is(4));
+        Iterator<DatabasePacket<?>> actualPackets = actual.iterator();
+        assertThat(actualPackets.next(), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertCommandComplete(actualPackets.next());
+        assertThat(actualPackets.next(), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertCommandComplete(actualPackets.next());
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, "init");
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement).setObject(2, "paid");
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement).close();
+    }
+    
+    private void assertCommandComplete(final DatabasePacket<?> actual) {
+        assertThat(actual, instanceOf(PostgreSQLCommandCompletePacket.class));
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        ((PostgreSQLCommandCompletePacket) actual).write(payload);
+        verify(payload).writeStringNul("INSERT 0 1");
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
@@ -30,11 +32,13 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Iterator;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -53,6 +57,16 @@ public final class PostgreSQLComSyncExecutorTest {
         assertThat(actual.execute().iterator().next(), is(instanceOf(PostgreSQLReadyForQueryPacket.class)));
     }
     
+    @Test
+    public void assertExecuteWithBatchedInsertsFailed() throws SQLException {
+        when(backendConnection.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        when(connectionContext.executeBatchedInserts()).thenThrow(new SQLException("Batch failed."));
+        Iterator<DatabasePacket<?>> actual = new PostgreSQLComSyncExecutor(connectionContext, backendConnection).execute().iterator();
+        assertThat(actual.next(), is(instanceOf(PostgreSQLErrorResponsePacket.class)));
+        assertThat(actual.next(), is(instanceOf(PostgreSQLReadyForQueryPacket.class)));
+        verify(connectionContext).clearContext();
+    }
+    
     @Test(expected = UnsupportedOperationException.class)
     @SneakyThrows(SQLException.class)
     public void assertNextFalse() {
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query data writer.
+ * 
+ * <p>
+ * Query data is flushed when any of pending bytes, elapsed time or row count since last flush reaches its threshold.
+ * Writing is suspended while channel is not writable, and resumed by notification of channel writability changed.
+ * </p>
+ */
+public final class QueryDataWriter {
+    
+    private static final long FLUSH_INTERVAL_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytesThreshold;
+    
+    private final long flushIntervalNanoseconds;
+    
+    private int unflushedRows;
+    
+    private long bytesBeforeUnwritableAfterFlush;
+    
+    private long lastFlushNanoTime;
+    
+    public QueryDataWriter(final ChannelHandlerContext context, final BackendConnection backendConnection) {
+        this(context, backendConnection.getResourceLock(),
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), FLUSH_INTERVAL_NANOSECONDS);
+    }
+    
+    public QueryDataWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final int flushThreshold, final long flushIntervalNanoseconds) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        this.flushThreshold = flushThreshold;
+        this.flushIntervalNanoseconds = flushIntervalNanoseconds;
+        flushBytesThreshold = context.channel().config().getWriteBufferHighWaterMark() / 2;
+        bytesBeforeUnwritableAfterFlush = context.channel().bytesBeforeUnwritable();
+        lastFlushNanoTime = System.nanoTime();
+    }
+    
+    /**
+     * Write query data packet.
+     * 
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket<?> packet) {
+        Channel channel = context.channel();
+        if (!channel.isWritable()) {
+            flush();
+            resourceLock.doAwaitUntil(() -> channel.isWritable() || !channel.isActive());
+        }
+        context.write(packet);
+        unflushedRows++;
+        if (isFlushRequired(channel)) {
+            flush();
+        }
+    }
+    
+    private boolean isFlushRequired(final Channel channel) {
+        return unflushedRows >= flushThreshold || bytesBeforeUnwritableAfterFlush - channel.bytesBeforeUnwritable() >= flushBytesThreshold
+                || System.nanoTime() - lastFlushNanoTime >= flushIntervalNanoseconds;
+    }
+    
+    private void flush() {
+        context.flush();
+        unflushedRows = 0;
+        bytesBeforeUnwritableAfterFlush = context.channel().bytesBeforeUnwritable();
+        lastFlushNanoTime = System.nanoTime();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataWriterTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.config()).thenReturn(channelConfig);
+        when(channelConfig.getWriteBufferHighWaterMark()).thenReturn(64 * 1024);
+        when(channel.isWritable()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertFlushByRowThreshold() {
+        when(channel.bytesBeforeUnwritable()).thenReturn(64 * 1024L);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, 2, Long.MAX_VALUE);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        queryDataWriter.write(packet);
+        queryDataWriter.write(packet);
+        verify(context, times(2)).write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertFlushByPendingBytes() {
+        when(channel.bytesBeforeUnwritable()).thenReturn(64 * 1024L, 64 * 1024L, 16 * 1024L);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, Integer.MAX_VALUE, Long.MAX_VALUE);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        queryDataWriter.write(packet);
+        verify(context, never()).flush();
+        queryDataWriter.write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertFlushByInterval() {
+        when(channel.bytesBeforeUnwritable()).thenReturn(64 * 1024L);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, Integer.MAX_VALUE, 0L);
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertFlushAndAwaitWhenChannelNotWritable() {
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.bytesBeforeUnwritable()).thenReturn(0L);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, Integer.MAX_VALUE, Long.MAX_VALUE);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        queryDataWriter.write(packet);
+        verify(context).flush();
+        verify(resourceLock).doAwaitUntil(any(BooleanSupplier.class));
+        verify(context).write(packet);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLLiteralNormalizedParseTest {
+    
+    private final SQLParserEngine parserEngine = new SQLParserEngine("MySQL", false, true);
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", new Properties());
+    
+    @Test
+    public void assertParseWithNormalizedLiterals() {
+        ParseContext template = parserEngine.parseWithNormalizedLiterals("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'");
+        String sql = "SELECT * FROM t_order WHERE order_id = 1000 AND status = 'finished'";
+        ParseContext actual = parserEngine.parseWithNormalizedLiterals(sql);
+        assertThat(actual.getParseTree(), not(sameInstance(template.getParseTree())));
+        assertThat(actual.getParseTree().getText(), is(parserEngine.parse(sql, false).getParseTree().getText()));
+        BinaryOperationExpression where = (BinaryOperationExpression) ((SelectStatement) visitorEngine.visit(actual)).getWhere().get().getExpr();
+        assertLiteral((BinaryOperationExpression) where.getLeft(), 1000, sql.indexOf("1000"), sql.indexOf("1000") + 3);
+        assertLiteral((BinaryOperationExpression) where.getRight(), "finished", sql.indexOf("'finished'"), sql.length() - 1);
+        assertThat(where.getText(), is(sql.substring(sql.indexOf("order_id"))));
+    }
+    
+    @Test
+    public void assertParseWithDifferentTokenTypes() {
+        ParseContext template = parserEngine.parseWithNormalizedLiterals("SELECT * FROM t_order WHERE order_id = 1");
+        String sql = "SELECT * FROM t_order WHERE order_id = user_id";
+        ParseContext actual = parserEngine.parseWithNormalizedLiterals(sql);
+        assertThat(actual.getParseTree().getText(), not(template.getParseTree().getText()));
+        assertThat(actual.getParseTree().getText(), is(parserEngine.parse(sql, false).getParseTree().getText()));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertParseWithNormalizedLiteralsWhenDisabled() {
+        new SQLParserEngine("MySQL", false).parseWithNormalizedLiterals("SELECT * FROM t_order WHERE order_id = 1");
+    }
+    
+    private void assertLiteral(final BinaryOperationExpression expression, final Object expectedValue, final int expectedStartIndex, final int expectedStopIndex) {
+        LiteralExpressionSegment literal = (LiteralExpressionSegment) expression.getRight();
+        assertThat(literal.getLiterals(), is(expectedValue));
+        assertThat(literal.getStartIndex(), is(expectedStartIndex));
+        assertThat(literal.getStopIndex(), is(expectedStopIndex));
+    }
+}
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.sql.parser.api;
 
+import com.google.common.base.Preconditions;
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.core.ParseContext;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
+import org.apache.shardingsphere.sql.parser.core.database.parser.LiteralNormalizedSQLParserExecutor;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
 /**
@@ -31,13 +33,24 @@ public final class SQLParserEngine {
     
     private final LoadingCache<String, ParseContext> parseTreeCache;
     
+    private final LiteralNormalizedSQLParserExecutor literalNormalizedSQLParserExecutor;
+    
     public SQLParserEngine(final String databaseType, final boolean sqlCommentParseEnabled) {
         this(databaseType, new CacheOption(128, 1024L, 4), sqlCommentParseEnabled);
     }
     
+    public SQLParserEngine(final String databaseType, final boolean sqlCommentParseEnabled, final boolean literalNormalizedParseEnabled) {
+        this(databaseType, new CacheOption(128, 1024L, 4), sqlCommentParseEnabled, literalNormalizedParseEnabled);
+    }
+    
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption, final boolean sqlCommentParseEnabled) {
+        this(databaseType, cacheOption, sqlCommentParseEnabled, false);
+    }
+    
+    public SQLParserEngine(final String databaseType, final CacheOption cacheOption, final boolean sqlCommentParseEnabled, final boolean literalNormalizedParseEnabled) {
         sqlParserExecutor = new SQLParserExecutor(databaseType, sqlCommentParseEnabled);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType, sqlCommentParseEnabled);
+        literalNormalizedSQLParserExecutor = literalNormalizedParseEnabled ? new LiteralNormalizedSQLParserExecutor(databaseType, cacheOption, sqlCommentParseEnabled) : null;
     }
     
     /**
@@ -50,4 +63,17 @@ public final class SQLParserEngine {
     public ParseContext parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.getUnchecked(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL with parse tree shared by SQLs which are different only in literals.
+     * 
+     * <p>It is available only if literal normalized parse is enabled.</p>
+     *
+     * @param sql SQL to be parsed
+     * @return parse tree
+     */
+    public ParseContext parseWithNormalizedLiterals(final String sql) {
+        Preconditions.checkState(null != literalNormalizedSQLParserExecutor, "Literal normalized parse is not enabled.");
+        return literalNormalizedSQLParserExecutor.parse(sql);
+    }
 }
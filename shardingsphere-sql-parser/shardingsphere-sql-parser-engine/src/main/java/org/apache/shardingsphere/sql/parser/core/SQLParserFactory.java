@@ -52,11 +52,19 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass, final boolean sqlCommentParseEnabled) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass, sqlCommentParseEnabled);
+        return newInstance(newTokenStream(sql, lexerClass), parserClass, sqlCommentParseEnabled);
     }
     
+    /**
+     * New instance of SQL parser with lexed token stream.
+     *
+     * @param tokenStream token stream
+     * @param parserClass parser class
+     * @param sqlCommentParseEnabled enable sql comment parse
+     * @return SQL parser
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass, final boolean sqlCommentParseEnabled) {
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass, final boolean sqlCommentParseEnabled) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
         if (sqlCommentParseEnabled) {
             Arrays.stream(parserClass.getMethods()).filter(each -> "setSqlCommentParseEnabled".equals(each.getName())).findAny().ifPresent(each -> setEnableSqlCommentParse(result, each));
@@ -71,8 +79,15 @@ public final class SQLParserFactory {
         method.invoke(sqlParser, true);
     }
     
+    /**
+     * New instance of token stream.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @return token stream
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
+    public static CommonTokenStream newTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
         Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
         lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
         return new CommonTokenStream(lexer);
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.ParseContext;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Literal normalized SQL parser executor.
+ * 
+ * <p>SQLs which are different only in literals share one cached parse tree, which is copied and rebound to the lexed tokens of each SQL instead of being parsed again.
+ * Cache of parse tree templates is bounded by weight, template key shorter than 1024 characters weighs 1.</p>
+ */
+public final class LiteralNormalizedSQLParserExecutor {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "NUMBER_", "INT_NUM_", "INTEGER_", "FLOAT_NUM_", "DECIMAL_NUM_", "STRING_", "SINGLE_QUOTED_TEXT", "NCHAR_TEXT", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final Map<Class<?>, Collection<Integer>> LITERAL_TOKEN_TYPES = new ConcurrentHashMap<>();
+    
+    private static final int WEIGHT_UNIT_KEY_LENGTH = 1024;
+    
+    private final String databaseType;
+    
+    private final boolean sqlCommentParseEnabled;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, ParseTree> parseTreeTemplateCache;
+    
+    public LiteralNormalizedSQLParserExecutor(final String databaseType, final CacheOption cacheOption, final boolean sqlCommentParseEnabled) {
+        this.databaseType = databaseType;
+        this.sqlCommentParseEnabled = sqlCommentParseEnabled;
+        sqlParserExecutor = new SQLParserExecutor(databaseType, sqlCommentParseEnabled);
+        parseTreeTemplateCache = Caffeine.newBuilder().initialCapacity(cacheOption.getInitialCapacity()).maximumWeight(cacheOption.getMaximumSize())
+                .weigher(LiteralNormalizedSQLParserExecutor::weigh).build();
+    }
+    
+    private static int weigh(final String templateKey, final ParseTree parseTreeTemplate) {
+        return 1 + templateKey.length() / WEIGHT_UNIT_KEY_LENGTH;
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @param sql SQL to be parsed
+     * @return parse context
+     */
+    public ParseContext parse(final String sql) {
+        DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, sqlParserFacade.getLexerClass());
+        tokenStream.fill();
+        String templateKey = createTemplateKey(tokenStream.getTokens(), getLiteralTokenTypes((Lexer) tokenStream.getTokenSource()));
+        ParseTree parseTreeTemplate = parseTreeTemplateCache.getIfPresent(templateKey);
+        if (null != parseTreeTemplate) {
+            return new ParseContext(ParseTreeCopier.copy(parseTreeTemplate, tokenStream.getTokens()), getHiddenTokens(tokenStream.getTokens()));
+        }
+        ParseContext result = sqlParserExecutor.parse(sql, SQLParserFactory.newInstance(tokenStream, sqlParserFacade.getParserClass(), sqlCommentParseEnabled));
+        parseTreeTemplateCache.put(templateKey, result.getParseTree());
+        return result;
+    }
+    
+    private Collection<Integer> getLiteralTokenTypes(final Lexer lexer) {
+        return LITERAL_TOKEN_TYPES.computeIfAbsent(lexer.getClass(), key -> loadLiteralTokenTypes(lexer.getVocabulary()));
+    }
+    
+    private Collection<Integer> loadLiteralTokenTypes(final Vocabulary vocabulary) {
+        Collection<Integer> result = new HashSet<>();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /*
+     * Parse tree of SQL only depends on its token types, so token types and texts except literals are kept in template key.
+     */
+    private String createTemplateKey(final List<Token> tokens, final Collection<Integer> literalTokenTypes) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokens) {
+            result.append(each.getType());
+            if (literalTokenTypes.contains(each.getType())) {
+                result.append('?');
+            } else {
+                result.append(':').append(each.getText().length()).append(':').append(each.getText());
+            }
+        }
+        return result.toString();
+    }
+    
+    private Collection<Token> getHiddenTokens(final List<Token> tokens) {
+        return tokens.stream().filter(each -> Token.HIDDEN_CHANNEL == each.getChannel()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Parse tree copier.
+ * 
+ * <p>Copy parse tree and rebind terminal nodes to tokens of another SQL, which must have same token types with the SQL of copied parse tree.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeCopier {
+    
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final Map<Class<?>, Collection<Field>> LABEL_FIELDS = new ConcurrentHashMap<>();
+    
+    /**
+     * Copy parse tree.
+     * 
+     * @param parseTree parse tree to be copied
+     * @param tokens tokens to be rebound, indexes of which are same as tokens of copied parse tree
+     * @return copied parse tree
+     */
+    public static ParseTree copy(final ParseTree parseTree, final List<Token> tokens) {
+        ParseTree root = parseTree;
+        while (null != root.getParent()) {
+            root = root.getParent();
+        }
+        Map<ParseTree, ParseTree> copiedNodes = new IdentityHashMap<>();
+        copyNode(root, null, tokens, copiedNodes);
+        for (Entry<ParseTree, ParseTree> entry : copiedNodes.entrySet()) {
+            if (entry.getKey() instanceof ParserRuleContext) {
+                copyLabels((ParserRuleContext) entry.getKey(), (ParserRuleContext) entry.getValue(), tokens, copiedNodes);
+            }
+        }
+        return copiedNodes.get(parseTree);
+    }
+    
+    private static ParseTree copyNode(final ParseTree node, final ParserRuleContext parent, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        ParseTree result = node instanceof ParserRuleContext ? copyRuleContext((ParserRuleContext) node, parent, tokens, copiedNodes) : copyTerminalNode((TerminalNode) node, parent, tokens);
+        copiedNodes.put(node, result);
+        return result;
+    }
+    
+    private static ParserRuleContext copyRuleContext(final ParserRuleContext ruleContext, final ParserRuleContext parent, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        ParserRuleContext result = newRuleContext(ruleContext.getClass());
+        result.parent = parent;
+        result.invokingState = ruleContext.invokingState;
+        result.start = rebind(ruleContext.start, tokens);
+        result.stop = rebind(ruleContext.stop, tokens);
+        if (null != ruleContext.children) {
+            for (ParseTree each : ruleContext.children) {
+                result.addAnyChild(copyNode(each, result, tokens, copiedNodes));
+            }
+        }
+        return result;
+    }
+    
+    private static TerminalNode copyTerminalNode(final TerminalNode terminalNode, final ParserRuleContext parent, final List<Token> tokens) {
+        Token token = rebind(terminalNode.getSymbol(), tokens);
+        TerminalNodeImpl result = terminalNode instanceof ErrorNode ? new ErrorNodeImpl(token) : new TerminalNodeImpl(token);
+        result.setParent(parent);
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static ParserRuleContext newRuleContext(final Class<? extends ParserRuleContext> ruleContextClass) {
+        Constructor<?> constructor = CONSTRUCTORS.computeIfAbsent(ruleContextClass, ParseTreeCopier::findConstructor);
+        if (2 == constructor.getParameterCount()) {
+            return (ParserRuleContext) constructor.newInstance(null, -1);
+        }
+        // labeled alternative context is created by copying from context of its rule
+        return (ParserRuleContext) constructor.newInstance(newRuleContext(constructor.getParameterTypes()[0].asSubclass(ParserRuleContext.class)));
+    }
+    
+    private static Constructor<?> findConstructor(final Class<?> ruleContextClass) {
+        Constructor<?> result = null;
+        for (Constructor<?> each : ruleContextClass.getConstructors()) {
+            Class<?>[] parameterTypes = each.getParameterTypes();
+            if (2 == parameterTypes.length && ParserRuleContext.class == parameterTypes[0] && int.class == parameterTypes[1]) {
+                return each;
+            }
+            if (1 == parameterTypes.length && ParserRuleContext.class.isAssignableFrom(parameterTypes[0])) {
+                result = each;
+            }
+        }
+        if (null == result) {
+            throw new IllegalStateException(String.format("Can not find constructor of `%s`", ruleContextClass.getName()));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private static void copyLabels(final ParserRuleContext source, final ParserRuleContext target, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        for (Field each : LABEL_FIELDS.computeIfAbsent(source.getClass(), ParseTreeCopier::findLabelFields)) {
+            each.set(target, copyLabel(each.get(source), tokens, copiedNodes));
+        }
+    }
+    
+    private static Collection<Field> findLabelFields(final Class<?> ruleContextClass) {
+        Collection<Field> result = new LinkedList<>();
+        for (Class<?> each = ruleContextClass; ParserRuleContext.class != each && ParserRuleContext.class.isAssignableFrom(each); each = each.getSuperclass()) {
+            for (Field field : each.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    result.add(field);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Object copyLabel(final Object label, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        if (label instanceof Token) {
+            return rebind((Token) label, tokens);
+        }
+        if (label instanceof ParseTree) {
+            return copiedNodes.get(label);
+        }
+        if (label instanceof List) {
+            return ((List<?>) label).stream().map(each -> copyLabel(each, tokens, copiedNodes)).collect(Collectors.toList());
+        }
+        return label;
+    }
+    
+    private static Token rebind(final Token token, final List<Token> tokens) {
+        return null == token || token.getTokenIndex() < 0 || token.getTokenIndex() >= tokens.size() ? token : tokens.get(token.getTokenIndex());
+    }
+}
@@ -46,16 +46,26 @@ public final class SQLParserExecutor {
      * @return parse context
      */
     public ParseContext parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
+        return parse(sql, SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass(), sqlCommentParseEnabled));
+    }
+    
+    /**
+     * Parse SQL with prepared SQL parser.
+     *
+     * @param sql SQL to be parsed
+     * @param sqlParser SQL parser which holds token stream of SQL
+     * @return parse context
+     */
+    public ParseContext parse(final String sql, final SQLParser sqlParser) {
+        ParseASTNode result = twoPhaseParse(sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException("Unsupported SQL of `%s`", sql);
         }
         return new ParseContext(result.getRootNode(), result.getHiddenTokens());
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass(), sqlCommentParseEnabled);
+    private ParseASTNode twoPhaseParse(final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ParseTreeCopierTest {
+    
+    @Test
+    public void assertCopy() {
+        List<Token> templateTokens = createTokens("1");
+        ParserRuleContext root = new ParserRuleContext(null, 0);
+        ConditionContext condition = new ConditionContext(root, 1);
+        EqualConditionContext template = new EqualConditionContext(condition);
+        root.addAnyChild(template);
+        template.start = templateTokens.get(0);
+        template.stop = templateTokens.get(2);
+        template.addAnyChild(new TerminalNodeImpl(templateTokens.get(0))).setParent(template);
+        template.addAnyChild(new TerminalNodeImpl(templateTokens.get(1))).setParent(template);
+        template.addAnyChild(new TerminalNodeImpl(templateTokens.get(2))).setParent(template);
+        template.value = templateTokens.get(2);
+        List<Token> tokens = createTokens("100");
+        ParseTree actual = ParseTreeCopier.copy(template, tokens);
+        assertThat(actual, instanceOf(EqualConditionContext.class));
+        assertThat(actual, not(sameInstance(template)));
+        assertThat(actual.getText(), is("id=100"));
+        assertThat(actual.getParent(), instanceOf(ParserRuleContext.class));
+        assertThat(actual.getParent().getParent(), nullValue());
+        assertThat(((EqualConditionContext) actual).start, sameInstance(tokens.get(0)));
+        assertThat(((EqualConditionContext) actual).stop, sameInstance(tokens.get(2)));
+        assertThat(((EqualConditionContext) actual).value, sameInstance(tokens.get(2)));
+        assertThat(((EqualConditionContext) actual).invokingState, is(1));
+        assertThat(actual.getChild(2).getParent(), sameInstance(actual));
+        assertThat(template.getText(), is("id=1"));
+    }
+    
+    private List<Token> createTokens(final String literal) {
+        CommonToken column = new CommonToken(1, "id");
+        column.setTokenIndex(0);
+        CommonToken operator = new CommonToken(2, "=");
+        operator.setTokenIndex(1);
+        CommonToken value = new CommonToken(3, literal);
+        value.setTokenIndex(2);
+        return Arrays.asList(column, operator, value);
+    }
+    
+    public static class ConditionContext extends ParserRuleContext {
+        
+        public ConditionContext(final ParserRuleContext parent, final int invokingState) {
+            super(parent, invokingState);
+        }
+    }
+    
+    public static final class EqualConditionContext extends ConditionContext {
+        
+        private Token value;
+        
+        public EqualConditionContext(final ConditionContext ctx) {
+            super(null, 0);
+            copyFrom(ctx);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dm
 
 import lombok.Setter;
 import lombok.ToString;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.returning.ReturningSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.WithSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.PostgreSQLStatement;
@@ -33,6 +34,8 @@ import java.util.Optional;
 public final class PostgreSQLInsertStatement extends InsertStatement implements PostgreSQLStatement {
     
     private WithSegment withSegment;
+    
+    private ReturningSegment returningSegment;
 
     /**
      * Get with segment.
@@ -42,4 +45,13 @@ public final class PostgreSQLInsertStatement extends InsertStatement implements
     public Optional<WithSegment> getWithSegment() {
         return Optional.ofNullable(withSegment);
     }
+    
+    /**
+     * Get returning segment.
+     *
+     * @return returning segment
+     */
+    public Optional<ReturningSegment> getReturningSegment() {
+        return Optional.ofNullable(returningSegment);
+    }
 }